@@ -0,0 +1,76 @@
+package com.innowise.task;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe deque with the {@link LinkList} head/tail API. This is an adapter over
+ * {@link ConcurrentLinkedDeque}, not a concurrent version of LinkList's own nodes: head and
+ * tail operations are the JDK's lock-free CAS operations. The element count is kept in a
+ * {@link LongAdder}, so {@link #size()} is O(1) instead of a full traversal; under concurrent
+ * updates it is an estimate, as with the JDK deques.
+ *
+ * <p>Unlike {@link LinkList}, {@code null} elements are not supported: {@code addFirst} and
+ * {@code addLast} throw {@link NullPointerException}, because {@code null} is the "empty"
+ * result of {@link #pollFirst()} and {@link #pollLast()}.
+ */
+public class ConcurrentDequeAdapter<E> {
+    private final ConcurrentLinkedDeque<E> deque = new ConcurrentLinkedDeque<>();
+    private final LongAdder size = new LongAdder();
+
+    public int size() {
+        long count = size.sum();
+        if (count < 0) return 0;
+        return count > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count;
+    }
+
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    public void addFirst(E el) {
+        Objects.requireNonNull(el, "Null elements are not supported");
+        deque.addFirst(el);
+        size.increment();
+    }
+
+    public void addLast(E el) {
+        Objects.requireNonNull(el, "Null elements are not supported");
+        deque.addLast(el);
+        size.increment();
+    }
+
+    public E getFirst() {
+        return deque.getFirst();
+    }
+
+    public E getLast() {
+        return deque.getLast();
+    }
+
+    public E pollFirst() {
+        E el = deque.pollFirst();
+        if (el != null) size.decrement();
+        return el;
+    }
+
+    public E pollLast() {
+        E el = deque.pollLast();
+        if (el != null) size.decrement();
+        return el;
+    }
+
+    public E removeFirst() {
+        E el = pollFirst();
+        if (el == null) throw new NoSuchElementException();
+        return el;
+    }
+
+    public E removeLast() {
+        E el = pollLast();
+        if (el == null) throw new NoSuchElementException();
+        return el;
+    }
+}
@@ -0,0 +1,171 @@
+package com.innowise.task;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Same slab layout as {@link IntLinkList}, holding unboxed {@code double} values.
+ */
+public class DoubleLinkList {
+    static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    int size = 0;
+    int first = NIL;
+    int last = NIL;
+    private int free = NIL;
+    private int used = 0;
+
+    private double[] values;
+    private int[] next;
+    private int[] prev;
+
+    public DoubleLinkList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleLinkList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must not be negative");
+        values = new double[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void addFirst(double el) {
+        int slot = allocate(el);
+        next[slot] = first;
+        prev[slot] = NIL;
+        if (first == NIL) last = slot;
+        else prev[first] = slot;
+        first = slot;
+        size++;
+    }
+
+    public void addLast(double el) {
+        int slot = allocate(el);
+        next[slot] = NIL;
+        prev[slot] = last;
+        if (last == NIL) first = slot;
+        else next[last] = slot;
+        last = slot;
+        size++;
+    }
+
+    public void add(int index, double el) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (index == 0) {
+            addFirst(el);
+        } else if (index == size) {
+            addLast(el);
+        } else {
+            int succ = slotAt(index);
+            int slot = allocate(el);
+            next[slot] = succ;
+            prev[slot] = prev[succ];
+            next[prev[succ]] = slot;
+            prev[succ] = slot;
+            size++;
+        }
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return values[slotAt(index)];
+    }
+
+    public double getFirst() {
+        if (first == NIL) throw new NoSuchElementException();
+        return values[first];
+    }
+
+    public double getLast() {
+        if (last == NIL) throw new NoSuchElementException();
+        return values[last];
+    }
+
+    public double removeFirst() {
+        if (first == NIL) throw new NoSuchElementException();
+        return unlink(first);
+    }
+
+    public double removeLast() {
+        if (last == NIL) throw new NoSuchElementException();
+        return unlink(last);
+    }
+
+    public double remove(int index) {
+        if (index < 0 || index >= size) throw new NoSuchElementException();
+        return unlink(slotAt(index));
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for (int x = first; x != NIL; x = next[x]) {
+            action.accept(values[x]);
+        }
+    }
+
+    public double[] toArray() {
+        double[] result = new double[size];
+        int i = 0;
+        for (int x = first; x != NIL; x = next[x]) {
+            result[i++] = values[x];
+        }
+        return result;
+    }
+
+    int slotAt(int index) {
+        if (index < size / 2) {
+            int x = first;
+            for (int i = 0; i < index; i++) {
+                x = next[x];
+            }
+            return x;
+        } else {
+            int x = last;
+            for (int i = size - 1; i > index; i--) {
+                x = prev[x];
+            }
+            return x;
+        }
+    }
+
+    private int allocate(double el) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == values.length) grow();
+            slot = used++;
+        }
+        values[slot] = el;
+        return slot;
+    }
+
+    private double unlink(int slot) {
+        int p = prev[slot];
+        int n = next[slot];
+        if (p == NIL) first = n;
+        else next[p] = n;
+        if (n == NIL) last = p;
+        else prev[n] = p;
+
+        next[slot] = free;
+        free = slot;
+        size--;
+        return values[slot];
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+}
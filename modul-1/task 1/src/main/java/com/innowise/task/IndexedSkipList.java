@@ -0,0 +1,182 @@
+package com.innowise.task;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexed sequence backed by a skip list whose links carry span counts,
+ * so positional get, insert and remove run in O(log n) expected time.
+ */
+public class IndexedSkipList<E> {
+    static final int MAX_LEVEL = 32;
+
+    int size = 0;
+    int level = 1;
+    final SkipNode<E> head = new SkipNode<>(null, MAX_LEVEL);
+    SkipNode<E> last;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final SkipNode<E>[] update = new SkipNode[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    static final class SkipNode<E> {
+        E data;
+        final SkipNode<E>[] next;
+        final int[] span;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipNode(E data, int height) {
+            this.data = data;
+            this.next = new SkipNode[height];
+            this.span = new int[height];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void addFirst(E el) {
+        insert(0, el);
+    }
+
+    public void addLast(E el) {
+        insert(size, el);
+    }
+
+    public void add(int index, E el) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        insert(index, el);
+    }
+
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return nodeAt(index).data;
+    }
+
+    public E set(int index, E el) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        SkipNode<E> node = nodeAt(index);
+        E old = node.data;
+        node.data = el;
+        return old;
+    }
+
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return head.next[0].data;
+    }
+
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return last.data;
+    }
+
+    public E removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return delete(0);
+    }
+
+    public E removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return delete(size - 1);
+    }
+
+    public E remove(int index) {
+        if (index < 0 || index >= size) throw new NoSuchElementException();
+        return delete(index);
+    }
+
+    private SkipNode<E> nodeAt(int index) {
+        if (index == size - 1) return last;
+        SkipNode<E> x = head;
+        int traversed = 0;
+        int target = index + 1;
+        for (int lvl = level - 1; lvl >= 0; lvl--) {
+            while (x.next[lvl] != null && traversed + x.span[lvl] <= target) {
+                traversed += x.span[lvl];
+                x = x.next[lvl];
+            }
+            if (traversed == target) return x;
+        }
+        return x;
+    }
+
+    private void findPredecessors(int index) {
+        SkipNode<E> x = head;
+        int traversed = 0;
+        for (int lvl = level - 1; lvl >= 0; lvl--) {
+            while (x.next[lvl] != null && traversed + x.span[lvl] <= index) {
+                traversed += x.span[lvl];
+                x = x.next[lvl];
+            }
+            update[lvl] = x;
+            rank[lvl] = traversed;
+        }
+    }
+
+    private void insert(int index, E el) {
+        findPredecessors(index);
+
+        int height = randomHeight();
+        if (height > level) {
+            for (int lvl = level; lvl < height; lvl++) {
+                update[lvl] = head;
+                rank[lvl] = 0;
+                head.span[lvl] = size;
+            }
+            level = height;
+        }
+
+        SkipNode<E> node = new SkipNode<>(el, height);
+        for (int lvl = 0; lvl < height; lvl++) {
+            SkipNode<E> pred = update[lvl];
+            node.next[lvl] = pred.next[lvl];
+            pred.next[lvl] = node;
+            node.span[lvl] = pred.span[lvl] - (rank[0] - rank[lvl]);
+            pred.span[lvl] = rank[0] - rank[lvl] + 1;
+        }
+        for (int lvl = height; lvl < level; lvl++) {
+            update[lvl].span[lvl]++;
+        }
+
+        if (node.next[0] == null) last = node;
+        size++;
+        clearUpdate(level);
+    }
+
+    private E delete(int index) {
+        findPredecessors(index);
+        SkipNode<E> node = update[0].next[0];
+        int levels = level;
+
+        for (int lvl = 0; lvl < level; lvl++) {
+            SkipNode<E> pred = update[lvl];
+            if (pred.next[lvl] == node) {
+                pred.span[lvl] += node.span[lvl] - 1;
+                pred.next[lvl] = node.next[lvl];
+            } else {
+                pred.span[lvl]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            head.span[level - 1] = 0;
+            level--;
+        }
+
+        if (node == last) last = update[0] == head ? null : update[0];
+        size--;
+        clearUpdate(levels);
+        return node.data;
+    }
+
+    private void clearUpdate(int levels) {
+        Arrays.fill(update, 0, levels, null);
+    }
+
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Integer.numberOfTrailingZeros(bits) + 1;
+    }
+}
@@ -0,0 +1,180 @@
+package com.innowise.task;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link LinkList} counterpart for {@code int} values. Nodes live in parallel arrays
+ * and link to each other by slot index, so no node or box object is allocated per element.
+ */
+public class IntLinkList {
+    static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    int size = 0;
+    int first = NIL;
+    int last = NIL;
+    private int free = NIL;
+    private int used = 0;
+
+    private int[] values;
+    private int[] next;
+    private int[] prev;
+
+    public IntLinkList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntLinkList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Capacity must not be negative");
+        values = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void addFirst(int el) {
+        int slot = allocate(el);
+        next[slot] = first;
+        prev[slot] = NIL;
+        if (first == NIL) last = slot;
+        else prev[first] = slot;
+        first = slot;
+        size++;
+    }
+
+    public void addLast(int el) {
+        int slot = allocate(el);
+        next[slot] = NIL;
+        prev[slot] = last;
+        if (last == NIL) first = slot;
+        else next[last] = slot;
+        last = slot;
+        size++;
+    }
+
+    public void add(int index, int el) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (index == 0) {
+            addFirst(el);
+        } else if (index == size) {
+            addLast(el);
+        } else {
+            int succ = slotAt(index);
+            int slot = allocate(el);
+            next[slot] = succ;
+            prev[slot] = prev[succ];
+            next[prev[succ]] = slot;
+            prev[succ] = slot;
+            size++;
+        }
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return values[slotAt(index)];
+    }
+
+    public int getFirst() {
+        if (first == NIL) throw new NoSuchElementException();
+        return values[first];
+    }
+
+    public int getLast() {
+        if (last == NIL) throw new NoSuchElementException();
+        return values[last];
+    }
+
+    public int removeFirst() {
+        if (first == NIL) throw new NoSuchElementException();
+        return unlink(first);
+    }
+
+    public int removeLast() {
+        if (last == NIL) throw new NoSuchElementException();
+        return unlink(last);
+    }
+
+    public int remove(int index) {
+        if (index < 0 || index >= size) throw new NoSuchElementException();
+        return unlink(slotAt(index));
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int x = first; x != NIL; x = next[x]) {
+            action.accept(values[x]);
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        for (int x = first; x != NIL; x = next[x]) {
+            result[i++] = values[x];
+        }
+        return result;
+    }
+
+    int nextSlot(int slot) {
+        return next[slot];
+    }
+
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    int slotAt(int index) {
+        if (index < size / 2) {
+            int x = first;
+            for (int i = 0; i < index; i++) {
+                x = next[x];
+            }
+            return x;
+        } else {
+            int x = last;
+            for (int i = size - 1; i > index; i--) {
+                x = prev[x];
+            }
+            return x;
+        }
+    }
+
+    private int allocate(int el) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == values.length) grow();
+            slot = used++;
+        }
+        values[slot] = el;
+        return slot;
+    }
+
+    private int unlink(int slot) {
+        int p = prev[slot];
+        int n = next[slot];
+        if (p == NIL) first = n;
+        else next[p] = n;
+        if (n == NIL) last = p;
+        else prev[n] = p;
+
+        next[slot] = free;
+        free = slot;
+        size--;
+        return values[slot];
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+}
@@ -1,32 +1,62 @@
 package com.innowise.task;
 
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class LinkList<E> {
+public class LinkList<E> implements Iterable<E> {
     int size =0;
+    int modCount = 0;
     Node<E> first;
     Node<E> last;
 
+    Node<E> finger;
+    int fingerIndex;
+
+    final int poolCapacity;
+    int poolSize = 0;
+    Node<E> pool;
+
+    public LinkList() {
+        this(0);
+    }
+
+    public LinkList(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Pool capacity must not be negative");
+        this.poolCapacity = poolCapacity;
+    }
+
     public int size(){
         return size;
     }
 
     public void addFirst(E el){
         Node<E> temp = first;
-        final Node<E> newNode = new Node<E>(el, temp,null);
+        final Node<E> newNode = newNode(el, temp, null);
         first =newNode;
         if (temp == null) last = newNode;
         else temp.prev = newNode;
+        if (finger != null) fingerIndex++;
         size++;
+        modCount++;
     }
 
     public void addLast(E el){
         Node<E> temp = last;
-        final Node<E> newNode = new Node<E>(el,null,temp);
+        final Node<E> newNode = newNode(el, null, temp);
         last = newNode;
         if (temp == null) first = newNode;
         else temp.next = newNode;
         size++;
+        modCount++;
     }
 
     public void add(int index, E el) {
@@ -37,14 +67,23 @@ public class LinkList<E> {
         } else if (index == size) {
             addLast(el);
         } else {
-            Node<E> temp = getNode(index);
-            Node<E> newNode = new Node<>(el, temp, temp.prev);
-            temp.prev.next = newNode;
-            temp.prev = newNode;
-            size++;
+            finger = linkBefore(el, getNode(index));
+            fingerIndex = index;
         }
     }
 
+    Node<E> linkBefore(E el, Node<E> succ) {
+        Node<E> pred = succ.prev;
+        Node<E> newNode = newNode(el, succ, pred);
+        if (pred == null) first = newNode;
+        else pred.next = newNode;
+        succ.prev = newNode;
+        finger = null;
+        size++;
+        modCount++;
+        return newNode;
+    }
+
 
     public E getFirst(){
         return first.data;
@@ -57,6 +96,8 @@ public class LinkList<E> {
     public Node<E> removeFirst() {
         if (first == null) throw new NoSuchElementException();
         Node<E> temp = first;
+        if (finger == temp) finger = null;
+        else if (finger != null) fingerIndex--;
         first = first.next;
         if (first == null) {
             last = null;
@@ -65,6 +106,7 @@ public class LinkList<E> {
             first.prev = null;
         }
         size--;
+        modCount++;
         temp.next = null;
         temp.prev = null;
         return temp;
@@ -73,14 +115,16 @@ public class LinkList<E> {
     public Node<E> removeLast(){
         if (last == null) throw new NoSuchElementException();
         Node<E> temp = last;
+        if (finger == temp) finger = null;
         last= last.prev;
         if (last == null){
             first = null;
         }
         else{
-            last.prev = null;
+            last.next = null;
         }
         size --;
+        modCount++;
         temp.next = null;
         temp.prev = null;
         return temp;
@@ -92,6 +136,22 @@ public class LinkList<E> {
         Node<E> temp = getNode(index);
         Node<E> prev = temp.prev;
         Node<E> next = temp.next;
+        unlink(temp);
+
+        if (next != null) {
+            finger = next;
+            fingerIndex = index;
+        } else if (prev != null) {
+            finger = prev;
+            fingerIndex = index - 1;
+        }
+        return temp;
+    }
+
+    Node<E> unlink(Node<E> temp) {
+        Node<E> prev = temp.prev;
+        Node<E> next = temp.next;
+        finger = null;
 
         if (prev == null) {
             first = next;
@@ -108,25 +168,446 @@ public class LinkList<E> {
         }
 
         size--;
+        modCount++;
         return temp;
     }
 
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (c.isEmpty()) return false;
+
+        Node<E> succ = (index == size) ? null : getNode(index);
+        Node<E> pred = (succ == null) ? last : succ.prev;
+        int added = 0;
+        for (E el : c) {
+            Node<E> newNode = newNode(el, null, pred);
+            if (pred == null) first = newNode;
+            else pred.next = newNode;
+            pred = newNode;
+            added++;
+        }
+
+        if (succ == null) {
+            last = pred;
+        } else {
+            pred.next = succ;
+            succ.prev = pred;
+        }
+        if (finger != null && fingerIndex >= index) fingerIndex += added;
+        size += added;
+        modCount++;
+        return true;
+    }
+
+    public void splice(LinkList<E> other) {
+        if (other == this) throw new IllegalArgumentException("Cannot splice a list into itself");
+        if (other.size == 0) return;
+
+        if (last == null) {
+            first = other.first;
+        } else {
+            last.next = other.first;
+            other.first.prev = last;
+        }
+        last = other.last;
+        size += other.size;
+        modCount++;
+
+        other.first = null;
+        other.last = null;
+        other.finger = null;
+        other.size = 0;
+        other.modCount++;
+    }
+
+    public LinkList<E> splitAt(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        LinkList<E> tail = new LinkList<>(poolCapacity);
+        if (index == size) return tail;
+
+        Node<E> head = getNode(index);
+        tail.first = head;
+        tail.last = last;
+        tail.size = size - index;
+
+        last = head.prev;
+        if (last == null) first = null;
+        else last.next = null;
+        head.prev = null;
+        if (finger != null && fingerIndex >= index) finger = null;
+        size = index;
+        modCount++;
+        return tail;
+    }
+
+    public List<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    public E pollFirst() {
+        if (first == null) return null;
+        return release(removeFirst());
+    }
+
+    public E pollLast() {
+        if (last == null) return null;
+        return release(removeLast());
+    }
+
+    public E removeAt(int index) {
+        return release(remove(index));
+    }
+
+    private Node<E> newNode(E el, Node<E> next, Node<E> prev) {
+        Node<E> node = pool;
+        if (node == null) return new Node<>(el, next, prev);
+        pool = node.next;
+        poolSize--;
+        node.data = el;
+        node.next = next;
+        node.prev = prev;
+        return node;
+    }
+
+    private E release(Node<E> node) {
+        E data = node.data;
+        node.data = null;
+        if (poolSize < poolCapacity) {
+            node.prev = null;
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+        return data;
+    }
+
     public Node<E> getNode(int index) {
         if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
 
-        if (index < size / 2) {
-            Node<E> x = first;
+        Node<E> x;
+        int fromLast = size - 1 - index;
+        if (finger != null && Math.abs(index - fingerIndex) < Math.min(index, fromLast)) {
+            x = finger;
+            for (int i = fingerIndex; i < index; i++) {
+                x = x.next;
+            }
+            for (int i = fingerIndex; i > index; i--) {
+                x = x.prev;
+            }
+        } else if (index < size / 2) {
+            x = first;
             for (int i = 0; i < index; i++) {
                 x = x.next;
             }
-            return x;
         } else {
-            Node<E> x = last;
+            x = last;
             for (int i = size - 1; i > index; i--) {
                 x = x.prev;
             }
-            return x;
         }
+        finger = x;
+        fingerIndex = index;
+        return x;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ListItr(0);
     }
 
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        return new ListItr(index);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LinkListSpliterator(first, size, modCount);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private class ListItr implements ListIterator<E> {
+        private Node<E> lastReturned;
+        private Node<E> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            next = (index == size) ? null : getNode(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            lastReturned = next = (next == null) ? last : next.prev;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            Node<E> lastNext = lastReturned.next;
+            release(unlink(lastReturned));
+            if (next == lastReturned) next = lastNext;
+            else nextIndex--;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E el) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.data = el;
+        }
+
+        @Override
+        public void add(E el) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) addLast(el);
+            else linkBefore(el, next);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    private final class LinkListSpliterator implements Spliterator<E> {
+        private Node<E> current;
+        private int remaining;
+        private final int expectedModCount;
+
+        LinkListSpliterator(Node<E> origin, int remaining, int expectedModCount) {
+            this.current = origin;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (remaining <= 0) return false;
+            Node<E> x = current;
+            current = x.next;
+            remaining--;
+            action.accept(x.data);
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            Node<E> x = current;
+            for (int n = remaining; n > 0; n--) {
+                action.accept(x.data);
+                x = x.next;
+            }
+            current = x;
+            remaining = 0;
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (remaining < 2) return null;
+            int half = remaining >>> 1;
+            Node<E> origin = current;
+            Node<E> mid = current;
+            for (int i = 0; i < half; i++) {
+                mid = mid.next;
+            }
+            current = mid;
+            remaining -= half;
+            return new LinkListSpliterator(origin, half, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    private final class SubList extends AbstractList<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = LinkList.this.modCount;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+            return getNode(offset + index).data;
+        }
+
+        @Override
+        public E set(int index, E el) {
+            checkForComodification();
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+            Node<E> node = getNode(offset + index);
+            E old = node.data;
+            node.data = el;
+            return old;
+        }
+
+        @Override
+        public void add(int index, E el) {
+            checkForComodification();
+            if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+            LinkList.this.add(offset + index, el);
+            expectedModCount = LinkList.this.modCount;
+            size++;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+            E removed = removeAt(offset + index);
+            expectedModCount = LinkList.this.modCount;
+            size--;
+            return removed;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+            ListIterator<E> it = LinkList.this.listIterator(offset + index);
+
+            return new ListIterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return it.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    if (!hasPrevious()) throw new NoSuchElementException();
+                    return it.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return it.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return it.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    expectedModCount = LinkList.this.modCount;
+                    size--;
+                }
+
+                @Override
+                public void set(E el) {
+                    it.set(el);
+                }
+
+                @Override
+                public void add(E el) {
+                    it.add(el);
+                    expectedModCount = LinkList.this.modCount;
+                    size++;
+                }
+            };
+        }
+
+        private void checkForComodification() {
+            if (LinkList.this.modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
 }
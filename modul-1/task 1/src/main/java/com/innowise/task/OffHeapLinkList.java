@@ -0,0 +1,233 @@
+package com.innowise.task;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Doubly linked list of fixed-size records kept outside the Java heap.
+ * Nodes are slots in direct buffer chunks; each slot stores int {@code next}/{@code prev}
+ * offsets followed by the record encoded with a {@link RecordCodec}. Removed slots go to a
+ * free list and are reused. The list must be closed to drop its native memory.
+ */
+public class OffHeapLinkList<E> implements AutoCloseable {
+    static final int NIL = -1;
+    static final int DEFAULT_SLOTS_PER_CHUNK = 4096;
+
+    private static final int NEXT = 0;
+    private static final int PREV = 4;
+    private static final int HEADER = 8;
+
+    private final RecordCodec<E> codec;
+    private final int slotSize;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int size = 0;
+    private int first = NIL;
+    private int last = NIL;
+    private int free = NIL;
+    private int used = 0;
+    private boolean closed;
+
+    public OffHeapLinkList(RecordCodec<E> codec) {
+        this(codec, DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    public OffHeapLinkList(RecordCodec<E> codec, int slotsPerChunk) {
+        if (codec == null) throw new IllegalArgumentException("Codec must not be null");
+        if (slotsPerChunk <= 0 || Integer.bitCount(slotsPerChunk) != 1) {
+            throw new IllegalArgumentException("Slots per chunk must be a power of two");
+        }
+        this.codec = codec;
+        this.slotSize = HEADER + codec.recordSize();
+        this.chunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+        this.chunkMask = slotsPerChunk - 1;
+        if ((long) slotSize * slotsPerChunk > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk does not fit into a single buffer");
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void addFirst(E el) {
+        ensureOpen();
+        int slot = allocate(el);
+        setNext(slot, first);
+        setPrev(slot, NIL);
+        if (first == NIL) last = slot;
+        else setPrev(first, slot);
+        first = slot;
+        size++;
+    }
+
+    public void addLast(E el) {
+        ensureOpen();
+        int slot = allocate(el);
+        setNext(slot, NIL);
+        setPrev(slot, last);
+        if (last == NIL) first = slot;
+        else setNext(last, slot);
+        last = slot;
+        size++;
+    }
+
+    public void add(int index, E el) {
+        ensureOpen();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (index == 0) {
+            addFirst(el);
+        } else if (index == size) {
+            addLast(el);
+        } else {
+            int succ = slotAt(index);
+            int pred = prev(succ);
+            int slot = allocate(el);
+            setNext(slot, succ);
+            setPrev(slot, pred);
+            setNext(pred, slot);
+            setPrev(succ, slot);
+            size++;
+        }
+    }
+
+    public E get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return read(slotAt(index));
+    }
+
+    public E getFirst() {
+        ensureOpen();
+        if (first == NIL) throw new NoSuchElementException();
+        return read(first);
+    }
+
+    public E getLast() {
+        ensureOpen();
+        if (last == NIL) throw new NoSuchElementException();
+        return read(last);
+    }
+
+    public E removeFirst() {
+        ensureOpen();
+        if (first == NIL) throw new NoSuchElementException();
+        return unlink(first);
+    }
+
+    public E removeLast() {
+        ensureOpen();
+        if (last == NIL) throw new NoSuchElementException();
+        return unlink(last);
+    }
+
+    public E remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) throw new NoSuchElementException();
+        return unlink(slotAt(index));
+    }
+
+    public long reservedBytes() {
+        return (long) chunks.length * (chunkMask + 1) * slotSize;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        Arrays.fill(chunks, null);
+        chunks = new ByteBuffer[0];
+        size = 0;
+        first = last = free = NIL;
+        used = 0;
+    }
+
+    private int slotAt(int index) {
+        if (index < size / 2) {
+            int x = first;
+            for (int i = 0; i < index; i++) {
+                x = next(x);
+            }
+            return x;
+        } else {
+            int x = last;
+            for (int i = size - 1; i > index; i--) {
+                x = prev(x);
+            }
+            return x;
+        }
+    }
+
+    private int allocate(E el) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next(slot);
+        } else {
+            if (used == Integer.MAX_VALUE) throw new IllegalStateException("List is full");
+            slot = used++;
+            int chunk = slot >>> chunkShift;
+            if (chunk == chunks.length) addChunk();
+        }
+        codec.write(chunk(slot), offset(slot) + HEADER, el);
+        return slot;
+    }
+
+    private E unlink(int slot) {
+        int p = prev(slot);
+        int n = next(slot);
+        if (p == NIL) first = n;
+        else setNext(p, n);
+        if (n == NIL) last = p;
+        else setPrev(n, p);
+
+        E value = read(slot);
+        setNext(slot, free);
+        free = slot;
+        size--;
+        return value;
+    }
+
+    private void addChunk() {
+        chunks = Arrays.copyOf(chunks, chunks.length + 1);
+        chunks[chunks.length - 1] = ByteBuffer.allocateDirect((chunkMask + 1) * slotSize)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    private E read(int slot) {
+        return codec.read(chunk(slot), offset(slot) + HEADER);
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    private int offset(int slot) {
+        return (slot & chunkMask) * slotSize;
+    }
+
+    private int next(int slot) {
+        return chunk(slot).getInt(offset(slot) + NEXT);
+    }
+
+    private int prev(int slot) {
+        return chunk(slot).getInt(offset(slot) + PREV);
+    }
+
+    private void setNext(int slot, int value) {
+        chunk(slot).putInt(offset(slot) + NEXT, value);
+    }
+
+    private void setPrev(int slot, int value) {
+        chunk(slot).putInt(offset(slot) + PREV, value);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("List is closed");
+    }
+}
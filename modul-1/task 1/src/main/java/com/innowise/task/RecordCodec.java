@@ -0,0 +1,17 @@
+package com.innowise.task;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size binary form of a record stored by {@link OffHeapLinkList}.
+ * Implementations must use absolute get/put methods and touch only
+ * {@code recordSize()} bytes starting at {@code offset}.
+ */
+public interface RecordCodec<E> {
+
+    int recordSize();
+
+    void write(ByteBuffer buffer, int offset, E value);
+
+    E read(ByteBuffer buffer, int offset);
+}
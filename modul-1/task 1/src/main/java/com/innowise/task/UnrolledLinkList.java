@@ -0,0 +1,268 @@
+package com.innowise.task;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Doubly linked list whose nodes hold a small array of elements instead of a single one.
+ * Keeps the {@link LinkList} contract, but indexed access and traversal jump a whole block per step.
+ */
+public class UnrolledLinkList<E> implements Iterable<E> {
+    static final int DEFAULT_BLOCK_CAPACITY = 32;
+
+    final int blockCapacity;
+    int size = 0;
+    int modCount = 0;
+    Block<E> first;
+    Block<E> last;
+
+    static final class Block<E> {
+        final Object[] items;
+        int count;
+        Block<E> next;
+        Block<E> prev;
+
+        Block(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    static final class Position<E> {
+        final Block<E> block;
+        final int offset;
+
+        Position(Block<E> block, int offset) {
+            this.block = block;
+            this.offset = offset;
+        }
+    }
+
+    public UnrolledLinkList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    public UnrolledLinkList(int blockCapacity) {
+        if (blockCapacity < 2) throw new IllegalArgumentException("Block capacity must be at least 2");
+        this.blockCapacity = blockCapacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void addFirst(E el) {
+        if (first == null || first.count == blockCapacity) {
+            linkBefore(first, new Block<>(blockCapacity));
+        }
+        insertAt(first, 0, el);
+    }
+
+    public void addLast(E el) {
+        if (last == null || last.count == blockCapacity) {
+            linkAfter(last, new Block<>(blockCapacity));
+        }
+        insertAt(last, last.count, el);
+    }
+
+    public void add(int index, E el) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (index == 0) {
+            addFirst(el);
+        } else if (index == size) {
+            addLast(el);
+        } else {
+            Position<E> at = blockAt(index);
+            Block<E> block = at.block;
+            int pos = at.offset;
+            if (block.count == blockCapacity) {
+                Block<E> tail = split(block);
+                if (pos > block.count) {
+                    pos -= block.count;
+                    block = tail;
+                }
+            }
+            insertAt(block, pos, el);
+        }
+    }
+
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        Position<E> at = blockAt(index);
+        return elementAt(at.block, at.offset);
+    }
+
+    public E getFirst() {
+        if (first == null) throw new NoSuchElementException();
+        return elementAt(first, 0);
+    }
+
+    public E getLast() {
+        if (last == null) throw new NoSuchElementException();
+        return elementAt(last, last.count - 1);
+    }
+
+    public E removeFirst() {
+        if (first == null) throw new NoSuchElementException();
+        return removeAt(first, 0);
+    }
+
+    public E removeLast() {
+        if (last == null) throw new NoSuchElementException();
+        return removeAt(last, last.count - 1);
+    }
+
+    public E remove(int index) {
+        if (index < 0 || index >= size) throw new NoSuchElementException();
+        Position<E> at = blockAt(index);
+        return removeAt(at.block, at.offset);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) throw new NullPointerException();
+        int expectedModCount = modCount;
+        for (Block<E> x = first; x != null; x = x.next) {
+            for (int i = 0; i < x.count; i++) {
+                action.accept(elementAt(x, i));
+            }
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    Position<E> blockAt(int index) {
+        if (index < size / 2) {
+            Block<E> x = first;
+            while (index >= x.count) {
+                index -= x.count;
+                x = x.next;
+            }
+            return new Position<>(x, index);
+        } else {
+            Block<E> x = last;
+            int start = size - x.count;
+            while (index < start) {
+                x = x.prev;
+                start -= x.count;
+            }
+            return new Position<>(x, index - start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Block<E> block, int pos) {
+        return (E) block.items[pos];
+    }
+
+    private void insertAt(Block<E> block, int pos, E el) {
+        System.arraycopy(block.items, pos, block.items, pos + 1, block.count - pos);
+        block.items[pos] = el;
+        block.count++;
+        size++;
+        modCount++;
+    }
+
+    private E removeAt(Block<E> block, int pos) {
+        E removed = elementAt(block, pos);
+        int tail = block.count - pos - 1;
+        System.arraycopy(block.items, pos + 1, block.items, pos, tail);
+        block.items[--block.count] = null;
+        size--;
+        modCount++;
+
+        if (block.count == 0) {
+            unlink(block);
+        } else if (block.next != null && block.count + block.next.count <= blockCapacity / 2) {
+            mergeNext(block);
+        }
+        return removed;
+    }
+
+    private Block<E> split(Block<E> block) {
+        Block<E> tail = new Block<>(blockCapacity);
+        int half = block.count / 2;
+        int moved = block.count - half;
+        System.arraycopy(block.items, half, tail.items, 0, moved);
+        Arrays.fill(block.items, half, block.count, null);
+        block.count = half;
+        tail.count = moved;
+        linkAfter(block, tail);
+        return tail;
+    }
+
+    private void mergeNext(Block<E> block) {
+        Block<E> next = block.next;
+        System.arraycopy(next.items, 0, block.items, block.count, next.count);
+        block.count += next.count;
+        unlink(next);
+    }
+
+    private void linkBefore(Block<E> succ, Block<E> block) {
+        block.next = succ;
+        if (succ == null) {
+            block.prev = last;
+            if (last == null) first = block;
+            else last.next = block;
+            last = block;
+        } else {
+            block.prev = succ.prev;
+            if (succ.prev == null) first = block;
+            else succ.prev.next = block;
+            succ.prev = block;
+        }
+    }
+
+    private void linkAfter(Block<E> pred, Block<E> block) {
+        if (pred == null) {
+            linkBefore(first, block);
+            return;
+        }
+        block.prev = pred;
+        block.next = pred.next;
+        if (pred.next == null) last = block;
+        else pred.next.prev = block;
+        pred.next = block;
+    }
+
+    private void unlink(Block<E> block) {
+        Block<E> prev = block.prev;
+        Block<E> next = block.next;
+        if (prev == null) first = next;
+        else prev.next = next;
+        if (next == null) last = prev;
+        else next.prev = prev;
+        block.next = null;
+        block.prev = null;
+    }
+
+    private class Itr implements Iterator<E> {
+        private Block<E> block = first;
+        private int pos;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return block != null && pos < block.count;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            E el = elementAt(block, pos++);
+            if (pos == block.count) {
+                block = block.next;
+                pos = 0;
+            }
+            return el;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDequeAdapterTest {
+
+    @Test
+    @DisplayName("Single thread: deque operations at both ends")
+    void singleThread_DequeOperations() {
+        ConcurrentDequeAdapter<Integer> deque = new ConcurrentDequeAdapter<>();
+        deque.addLast(2);
+        deque.addFirst(1);
+        deque.addLast(3);
+
+        assertEquals(3, deque.size());
+        assertEquals(1, deque.getFirst());
+        assertEquals(3, deque.getLast());
+        assertEquals(1, deque.removeFirst());
+        assertEquals(3, deque.removeLast());
+        assertEquals(2, deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+    }
+
+    @Test
+    @DisplayName("Null elements should be rejected")
+    void nullElements_Rejected() {
+        ConcurrentDequeAdapter<String> deque = new ConcurrentDequeAdapter<>();
+        assertThrows(NullPointerException.class, () -> deque.addFirst(null));
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+        assertEquals(0, deque.size());
+        assertNull(deque.pollFirst());
+    }
+
+    @Test
+    @DisplayName("Concurrent producers and consumers should not lose elements")
+    void concurrentProducersAndConsumers_KeepAllElements() throws InterruptedException {
+        ConcurrentDequeAdapter<Long> deque = new ConcurrentDequeAdapter<>();
+        int threads = 4;
+        int perThread = 20000;
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicLong consumedCount = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+
+        for (int t = 0; t < threads; t++) {
+            final boolean head = t % 2 == 0;
+            executor.execute(() -> {
+                await(start);
+                for (long i = 1; i <= perThread; i++) {
+                    if (head) deque.addFirst(i);
+                    else deque.addLast(i);
+                }
+            });
+            executor.execute(() -> {
+                await(start);
+                for (int i = 0; i < perThread; i++) {
+                    Long value = head ? deque.pollLast() : deque.pollFirst();
+                    if (value != null) {
+                        consumedSum.addAndGet(value);
+                        consumedCount.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        long remainingSum = 0;
+        long remainingCount = 0;
+        Long value;
+        while ((value = deque.pollFirst()) != null) {
+            remainingSum += value;
+            remainingCount++;
+        }
+
+        long expectedSum = (long) threads * perThread * (perThread + 1) / 2;
+        assertEquals(expectedSum, consumedSum.get() + remainingSum);
+        assertEquals((long) threads * perThread, consumedCount.get() + remainingCount);
+        assertEquals(0, deque.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentDequeBenchmark {
+    private static final int PREFILL = 1024;
+
+    LinkList<Integer> synchronizedList;
+    ConcurrentDequeAdapter<Integer> concurrentDeque;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        synchronizedList = new LinkList<>();
+        concurrentDeque = new ConcurrentDequeAdapter<>();
+        for (int i = 0; i < PREFILL; i++) {
+            synchronizedList.addLast(i);
+            concurrentDeque.addLast(i);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(2)
+    public void synchronizedHeadProducer() {
+        synchronized (synchronizedList) {
+            synchronizedList.addFirst(1);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(2)
+    public Integer synchronizedTailConsumer() {
+        synchronized (synchronizedList) {
+            return synchronizedList.pollLast();
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(2)
+    public void synchronizedTailProducer() {
+        synchronized (synchronizedList) {
+            synchronizedList.addLast(1);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMixed")
+    @GroupThreads(2)
+    public Integer synchronizedHeadConsumer() {
+        synchronized (synchronizedList) {
+            return synchronizedList.pollFirst();
+        }
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(2)
+    public void concurrentHeadProducer() {
+        concurrentDeque.addFirst(1);
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(2)
+    public Integer concurrentTailConsumer() {
+        return concurrentDeque.pollLast();
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(2)
+    public void concurrentTailProducer() {
+        concurrentDeque.addLast(1);
+    }
+
+    @Benchmark
+    @Group("concurrentMixed")
+    @GroupThreads(2)
+    public Integer concurrentHeadConsumer() {
+        return concurrentDeque.pollFirst();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConcurrentDequeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
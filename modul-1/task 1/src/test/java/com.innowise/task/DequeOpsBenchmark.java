@@ -0,0 +1,145 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeOpsBenchmark {
+
+    @Param({"LinkList", "LinkedList", "ArrayDeque", "ArrayList"})
+    String impl;
+
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    Sequence sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sequence = Sequence.create(impl);
+        for (int i = 0; i < size; i++) {
+            sequence.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer headPushPop() {
+        sequence.addFirst(1);
+        return sequence.pollFirst();
+    }
+
+    @Benchmark
+    public Integer tailPushPop() {
+        sequence.addLast(1);
+        return sequence.pollLast();
+    }
+
+    @Benchmark
+    public Integer queueRotate() {
+        Integer value = sequence.pollFirst();
+        sequence.addLast(value);
+        return value;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long traverse() {
+        return sequence.sum();
+    }
+
+    interface Sequence {
+        void addFirst(Integer value);
+
+        void addLast(Integer value);
+
+        Integer pollFirst();
+
+        Integer pollLast();
+
+        long sum();
+
+        static Sequence create(String impl) {
+            switch (impl) {
+                case "LinkList":
+                    return new LinkListSequence();
+                case "LinkedList":
+                    return new LinkedListSequence();
+                case "ArrayDeque":
+                    return new ArrayDequeSequence();
+                case "ArrayList":
+                    return new ArrayListSequence();
+                default:
+                    throw new IllegalArgumentException("Unknown implementation: " + impl);
+            }
+        }
+    }
+
+    static final class LinkListSequence implements Sequence {
+        private final LinkList<Integer> list = new LinkList<>();
+
+        public void addFirst(Integer value) { list.addFirst(value); }
+        public void addLast(Integer value) { list.addLast(value); }
+        public Integer pollFirst() { return list.pollFirst(); }
+        public Integer pollLast() { return list.pollLast(); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : list) sum += value;
+            return sum;
+        }
+    }
+
+    static final class LinkedListSequence implements Sequence {
+        private final LinkedList<Integer> list = new LinkedList<>();
+
+        public void addFirst(Integer value) { list.addFirst(value); }
+        public void addLast(Integer value) { list.addLast(value); }
+        public Integer pollFirst() { return list.pollFirst(); }
+        public Integer pollLast() { return list.pollLast(); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : list) sum += value;
+            return sum;
+        }
+    }
+
+    static final class ArrayDequeSequence implements Sequence {
+        private final ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        public void addFirst(Integer value) { deque.addFirst(value); }
+        public void addLast(Integer value) { deque.addLast(value); }
+        public Integer pollFirst() { return deque.pollFirst(); }
+        public Integer pollLast() { return deque.pollLast(); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : deque) sum += value;
+            return sum;
+        }
+    }
+
+    static final class ArrayListSequence implements Sequence {
+        private final ArrayList<Integer> list = new ArrayList<>();
+
+        public void addFirst(Integer value) { list.add(0, value); }
+        public void addLast(Integer value) { list.add(value); }
+        public Integer pollFirst() { return list.isEmpty() ? null : list.remove(0); }
+        public Integer pollLast() { return list.isEmpty() ? null : list.remove(list.size() - 1); }
+
+        public long sum() {
+            long sum = 0;
+            for (Integer value : list) sum += value;
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedAccessBenchmark {
+
+    @Param({"16", "64", "256", "1024", "16384", "262144"})
+    int size;
+
+    LinkList<Integer> linkList;
+    IndexedSkipList<Integer> skipList;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        linkList = new LinkList<>();
+        skipList = new IndexedSkipList<>();
+        for (int i = 0; i < size; i++) {
+            linkList.addLast(i);
+            skipList.addLast(i);
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Integer linkListGet() {
+        return linkList.getNode(random.nextInt(size)).data;
+    }
+
+    @Benchmark
+    public Integer skipListGet() {
+        return skipList.get(random.nextInt(size));
+    }
+
+    @Benchmark
+    public Integer linkListInsertRemove() {
+        int index = random.nextInt(size);
+        linkList.add(index, index);
+        return linkList.remove(index).data;
+    }
+
+    @Benchmark
+    public Integer skipListInsertRemove() {
+        int index = random.nextInt(size);
+        skipList.add(index, index);
+        return skipList.remove(index);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IndexedAccessBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedOpsBenchmark {
+
+    @Param({"LinkList", "LinkedList", "ArrayList"})
+    String impl;
+
+    @Param({"100", "10000", "100000"})
+    int size;
+
+    LinkList<Integer> linkList;
+    List<Integer> jdkList;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("LinkList".equals(impl)) {
+            linkList = new LinkList<>();
+        } else if ("LinkedList".equals(impl)) {
+            jdkList = new LinkedList<>();
+        } else if ("ArrayList".equals(impl)) {
+            jdkList = new ArrayList<>();
+        } else {
+            throw new IllegalArgumentException("Unknown implementation: " + impl);
+        }
+        for (int i = 0; i < size; i++) {
+            if (linkList != null) linkList.addLast(i);
+            else jdkList.add(i);
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Integer randomGet() {
+        int index = random.nextInt(size);
+        return linkList != null ? linkList.getNode(index).data : jdkList.get(index);
+    }
+
+    @Benchmark
+    public Integer middleInsertRemove() {
+        int index = size / 2;
+        if (linkList != null) {
+            linkList.add(index, index);
+            return linkList.removeAt(index);
+        }
+        jdkList.add(index, index);
+        return jdkList.remove(index);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long sequentialIndexScan() {
+        long sum = 0;
+        if (linkList != null) {
+            for (int i = 0; i < size; i++) sum += linkList.getNode(i).data;
+        } else {
+            for (int i = 0; i < size; i++) sum += jdkList.get(i);
+        }
+        return sum;
+    }
+}
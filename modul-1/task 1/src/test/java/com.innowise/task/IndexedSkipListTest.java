@@ -0,0 +1,99 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedSkipListTest {
+    private IndexedSkipList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IndexedSkipList<>();
+    }
+
+    @Test
+    @DisplayName("add() and get() should keep positional order")
+    void addAndGet_KeepsOrder() {
+        list.addLast(2);
+        list.addFirst(0);
+        list.add(1, 1);
+        list.add(3, 3);
+
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(0, list.getFirst());
+        assertEquals(3, list.getLast());
+    }
+
+    @Test
+    @DisplayName("set() should replace element and return old value")
+    void set_ValidIndex_ReplacesElement() {
+        list.addLast(1);
+        list.addLast(2);
+
+        assertEquals(2, list.set(1, 20));
+        assertEquals(20, list.get(1));
+    }
+
+    @Test
+    @DisplayName("remove() methods should keep last element in sync")
+    void remove_UpdatesLast() {
+        for (int i = 0; i < 5; i++) list.addLast(i);
+
+        assertEquals(4, list.removeLast());
+        assertEquals(3, list.getLast());
+        assertEquals(0, list.removeFirst());
+        assertEquals(2, list.remove(1));
+        assertEquals(3, list.getLast());
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    @DisplayName("Invalid indexes should throw exceptions")
+    void invalidIndexes_Throw() {
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(NoSuchElementException.class, () -> list.remove(0));
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 0));
+    }
+
+    @Test
+    @DisplayName("Random operations should match ArrayList")
+    void randomOperations_MatchArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int op = random.nextInt(5);
+            if (expected.isEmpty() || op < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 3) {
+                assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
@@ -4,7 +4,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -274,4 +281,278 @@ class MainTest {
         assertNull(node.next);
         assertNull(node.prev);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("removeLast() should keep backward links intact")
+    void removeLast_KeepsBackwardLinks() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+
+        list.removeLast();
+
+        assertEquals(1, list.getNode(1).prev.data);
+        assertNull(list.getNode(1).next);
+    }
+
+    @Test
+    @DisplayName("iterator() should return elements in order")
+    void iterator_ReturnsElementsInOrder() {
+        for (int i = 0; i < 5; i++) list.addLast(i);
+
+        List<Integer> result = new ArrayList<>();
+        for (Integer value : list) {
+            result.add(value);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4), result);
+    }
+
+    @Test
+    @DisplayName("iterator() should fail fast on concurrent modification")
+    void iterator_ConcurrentModification_Throws() {
+        list.addLast(1);
+        list.addLast(2);
+
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.addLast(3);
+
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("listIterator() should add, set and remove at cursor")
+    void listIterator_ModifiesAtCursor() {
+        for (int i = 0; i < 4; i++) list.addLast(i);
+
+        ListIterator<Integer> it = list.listIterator(1);
+        assertEquals(1, it.next());
+        it.remove();
+        it.add(10);
+        assertEquals(2, it.next());
+        it.set(20);
+        assertEquals(20, it.previous());
+        assertEquals(2, it.nextIndex());
+
+        assertEquals(List.of(0, 10, 20, 3), list.stream().collect(Collectors.toList()));
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    @DisplayName("listIterator() should add at the head of a non-empty list")
+    void listIterator_AddAtHead() {
+        list.addLast(1);
+        list.addLast(2);
+
+        list.listIterator().add(0);
+        assertEquals(List.of(0, 1, 2), list.stream().collect(Collectors.toList()));
+        assertEquals(0, list.getFirst());
+
+        ListIterator<Integer> it = list.listIterator(1);
+        it.previous();
+        it.add(-1);
+        assertEquals(List.of(-1, 0, 1, 2), list.stream().collect(Collectors.toList()));
+
+        list.subList(0, 2).listIterator().add(-2);
+        assertEquals(List.of(-2, -1, 0, 1, 2), list.stream().collect(Collectors.toList()));
+        assertEquals(-2, list.getFirst());
+        assertEquals(2, list.getLast());
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    @DisplayName("stream() and parallelStream() should visit every element")
+    void streams_VisitEveryElement() {
+        for (int i = 1; i <= 10000; i++) list.addLast(i);
+
+        assertEquals(50005000L, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(50005000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(list.stream().collect(Collectors.toList()),
+                list.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("pollFirst() and pollLast() should return elements or null")
+    void poll_ReturnsElementsOrNull() {
+        list.addLast(1);
+        list.addLast(2);
+
+        assertEquals(1, list.pollFirst());
+        assertEquals(2, list.pollLast());
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    @DisplayName("removeAt() should return element at index")
+    void removeAt_ReturnsElement() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+
+        assertEquals(2, list.removeAt(1));
+        assertEquals(2, list.size());
+        assertThrows(NoSuchElementException.class, () -> list.removeAt(5));
+    }
+
+    @Test
+    @DisplayName("Pooled list should reuse detached nodes")
+    void pooledList_ReusesNodes() {
+        LinkList<Integer> pooled = new LinkList<>(2);
+        pooled.addLast(1);
+        Node<Integer> node = pooled.first;
+
+        pooled.pollFirst();
+        pooled.addLast(2);
+
+        assertSame(node, pooled.first);
+        assertEquals(2, pooled.getFirst());
+        assertNull(pooled.pool);
+    }
+
+    @Test
+    @DisplayName("Pool should be bounded by its capacity")
+    void pooledList_PoolIsBounded() {
+        LinkList<Integer> pooled = new LinkList<>(2);
+        for (int i = 0; i < 5; i++) pooled.addLast(i);
+        for (int i = 0; i < 5; i++) pooled.pollLast();
+
+        assertEquals(2, pooled.poolSize);
+        assertNull(pooled.pool.data);
+    }
+
+    @Test
+    @DisplayName("Default list should not pool nodes")
+    void defaultList_DoesNotPool() {
+        list.addLast(1);
+        list.pollFirst();
+
+        assertNull(list.pool);
+        assertEquals(0, list.poolSize);
+    }
+
+    @Test
+    @DisplayName("addAll() should append and insert collections")
+    void addAll_AppendsAndInserts() {
+        list.addLast(1);
+        list.addLast(5);
+
+        assertTrue(list.addAll(List.of(6, 7)));
+        assertTrue(list.addAll(1, List.of(2, 3, 4)));
+        assertTrue(list.addAll(0, List.of(0)));
+        assertFalse(list.addAll(List.of()));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), list.stream().collect(Collectors.toList()));
+        assertEquals(8, list.size());
+        assertEquals(6, list.getNode(7).prev.data);
+    }
+
+    @Test
+    @DisplayName("splice() should move all elements of other list")
+    void splice_MovesElements() {
+        LinkList<Integer> other = new LinkList<>();
+        list.addLast(1);
+        other.addLast(2);
+        other.addLast(3);
+
+        list.splice(other);
+
+        assertEquals(List.of(1, 2, 3), list.stream().collect(Collectors.toList()));
+        assertEquals(3, list.getLast());
+        assertEquals(0, other.size());
+        assertThrows(IllegalArgumentException.class, () -> list.splice(list));
+    }
+
+    @Test
+    @DisplayName("splitAt() should detach tail into new list")
+    void splitAt_DetachesTail() {
+        for (int i = 0; i < 5; i++) list.addLast(i);
+
+        LinkList<Integer> tail = list.splitAt(2);
+
+        assertEquals(List.of(0, 1), list.stream().collect(Collectors.toList()));
+        assertEquals(List.of(2, 3, 4), tail.stream().collect(Collectors.toList()));
+        assertEquals(1, list.getLast());
+        assertEquals(2, tail.getFirst());
+        assertEquals(0, list.splitAt(0).removeFirst().data);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    @DisplayName("subList() should be a live view")
+    void subList_IsLiveView() {
+        for (int i = 0; i < 6; i++) list.addLast(i);
+
+        List<Integer> view = list.subList(1, 4);
+        assertEquals(List.of(1, 2, 3), view);
+
+        view.set(0, 10);
+        view.remove(1);
+        view.add(20);
+
+        assertEquals(List.of(10, 3, 20), view);
+        assertEquals(List.of(0, 10, 3, 20, 4, 5), list.stream().collect(Collectors.toList()));
+
+        view.clear();
+        assertEquals(List.of(0, 4, 5), list.stream().collect(Collectors.toList()));
+
+        list.addLast(6);
+        assertThrows(ConcurrentModificationException.class, view::size);
+    }
+
+    @Test
+    @DisplayName("getNode() should remember the last accessed position")
+    void getNode_RemembersFinger() {
+        for (int i = 0; i < 100; i++) list.addLast(i);
+
+        Node<Integer> node = list.getNode(40);
+
+        assertSame(node, list.finger);
+        assertEquals(40, list.fingerIndex);
+        assertEquals(41, list.getNode(41).data);
+        assertEquals(39, list.getNode(39).data);
+    }
+
+    @Test
+    @DisplayName("Finger should stay correct across structural changes")
+    void finger_RandomOperations_MatchArrayList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(8);
+            if (expected.isEmpty() || op == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op == 1) {
+                list.addFirst(step);
+                expected.add(0, step);
+            } else if (op == 2) {
+                list.addLast(step);
+                expected.add(step);
+            } else if (op == 3) {
+                assertEquals(expected.remove(0), list.removeFirst().data);
+            } else if (op == 4) {
+                assertEquals(expected.remove(expected.size() - 1), list.removeLast().data);
+            } else if (op == 5) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index).data);
+            } else if (op == 6) {
+                int index = random.nextInt(expected.size() + 1);
+                list.addAll(index, List.of(step, step + 1));
+                expected.addAll(index, List.of(step, step + 1));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.getNode(index).data);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.getNode(i).data);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLinkListTest {
+
+    private static final RecordCodec<Long> LONG_CODEC = new RecordCodec<>() {
+        @Override
+        public int recordSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    private OffHeapLinkList<Long> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new OffHeapLinkList<>(LONG_CODEC, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        list.close();
+    }
+
+    @Test
+    @DisplayName("addFirst() and addLast() should span several chunks")
+    void addFirstAndLast_SpanChunks() {
+        for (long i = 5; i < 10; i++) list.addLast(i);
+        for (long i = 4; i >= 0; i--) list.addFirst(i);
+
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(0L, list.getFirst());
+        assertEquals(9L, list.getLast());
+    }
+
+    @Test
+    @DisplayName("Removed slots should be reused without growing")
+    void remove_ReusesSlots() {
+        for (long i = 0; i < 4; i++) list.addLast(i);
+        long reserved = list.reservedBytes();
+
+        for (int i = 0; i < 100; i++) {
+            list.addLast(list.removeFirst());
+        }
+
+        assertEquals(reserved, list.reservedBytes());
+        assertEquals(0L, list.getFirst());
+        assertEquals(3L, list.getLast());
+    }
+
+    @Test
+    @DisplayName("Random operations should match ArrayList")
+    void randomOperations_MatchArrayList() {
+        Random random = new Random(11);
+        List<Long> expected = new ArrayList<>();
+
+        for (long step = 0; step < 3000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Empty and closed lists should throw")
+    void emptyAndClosed_Throw() {
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.remove(0));
+
+        list.addLast(1L);
+        list.close();
+
+        assertEquals(0, list.reservedBytes());
+        assertThrows(IllegalStateException.class, () -> list.addLast(2L));
+        assertThrows(IllegalStateException.class, () -> list.getFirst());
+    }
+
+    @Test
+    @DisplayName("Constructor should reject non power of two chunk sizes")
+    void constructor_InvalidChunkSize_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLinkList<>(LONG_CODEC, 3));
+    }
+}
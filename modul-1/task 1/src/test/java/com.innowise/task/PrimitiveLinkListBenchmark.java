@@ -0,0 +1,89 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveLinkListBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    LinkList<Integer> boxed;
+    IntLinkList primitive;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boxed = new LinkList<>();
+        primitive = new IntLinkList();
+        for (int i = 0; i < size; i++) {
+            boxed.addLast(i);
+            primitive.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public LinkList<Integer> fillBoxed() {
+        LinkList<Integer> list = new LinkList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntLinkList fillPrimitive() {
+        IntLinkList list = new IntLinkList(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (Node<Integer> x = boxed.first; x != null; x = x.next) {
+            sum += x.data;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int x = primitive.first; x != IntLinkList.NIL; x = primitive.nextSlot(x)) {
+            sum += primitive.valueAt(x);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int churnBoxed() {
+        boxed.addLast(boxed.removeFirst().data);
+        return boxed.size();
+    }
+
+    @Benchmark
+    public int churnPrimitive() {
+        primitive.addLast(primitive.removeFirst());
+        return primitive.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveLinkListBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveLinkListTest {
+
+    @Test
+    @DisplayName("IntLinkList: add and remove at both ends")
+    void intList_AddAndRemoveAtEnds() {
+        IntLinkList list = new IntLinkList(2);
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+        list.add(1, 5);
+
+        assertArrayEquals(new int[]{1, 5, 2, 3}, list.toArray());
+        assertEquals(1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(2, list.remove(1));
+        assertEquals(5, list.getFirst());
+        assertEquals(5, list.getLast());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    @DisplayName("IntLinkList: removed slots should be reused")
+    void intList_ReusesFreedSlots() {
+        IntLinkList list = new IntLinkList(4);
+        for (int i = 0; i < 4; i++) list.addLast(i);
+        for (int i = 0; i < 1000; i++) {
+            list.addLast(list.removeFirst());
+        }
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("IntLinkList: random operations should match ArrayList")
+    void intList_RandomOperations_MatchArrayList() {
+        IntLinkList list = new IntLinkList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(3);
+
+        for (int step = 0; step < 5000; step++) {
+            if (expected.isEmpty() || random.nextBoolean()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("IntLinkList: empty list should throw")
+    void intList_Empty_Throws() {
+        IntLinkList list = new IntLinkList();
+
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(NoSuchElementException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    @DisplayName("LongLinkList: forEach should visit values in order")
+    void longList_ForEach() {
+        LongLinkList list = new LongLinkList();
+        for (long i = 1; i <= 100; i++) list.addLast(i * 1_000_000_000L);
+
+        AtomicLong sum = new AtomicLong();
+        list.forEach(sum::addAndGet);
+
+        assertEquals(5050L * 1_000_000_000L, sum.get());
+        assertEquals(100_000_000_000L, list.removeLast());
+    }
+
+    @Test
+    @DisplayName("DoubleLinkList: add and remove in the middle")
+    void doubleList_AddAndRemove() {
+        DoubleLinkList list = new DoubleLinkList(0);
+        list.addLast(1.5);
+        list.addLast(3.5);
+        list.add(1, 2.5);
+
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5}, list.toArray());
+        assertEquals(2.5, list.remove(1));
+        assertEquals(3.5, list.get(1));
+    }
+}
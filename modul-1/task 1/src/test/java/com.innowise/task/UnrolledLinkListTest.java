@@ -0,0 +1,126 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkListTest {
+    private UnrolledLinkList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new UnrolledLinkList<>(4);
+    }
+
+    @Test
+    @DisplayName("addFirst() and addLast() should keep order across blocks")
+    void addFirstAndLast_ManyElements_KeepsOrder() {
+        for (int i = 5; i < 10; i++) list.addLast(i);
+        for (int i = 4; i >= 0; i--) list.addFirst(i);
+
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(0, list.getFirst());
+        assertEquals(9, list.getLast());
+    }
+
+    @Test
+    @DisplayName("add(index, element) should split full blocks")
+    void add_IntoFullBlock_SplitsBlock() {
+        for (int i = 0; i < 4; i++) list.addLast(i * 10);
+
+        list.add(2, 15);
+        list.add(1, 5);
+
+        assertEquals(6, list.size());
+        assertEquals(List.of(0, 5, 10, 15, 20, 30), toList(list));
+    }
+
+    @Test
+    @DisplayName("remove() methods should return removed elements")
+    void remove_ValidIndexes_ReturnsElements() {
+        for (int i = 0; i < 10; i++) list.addLast(i);
+
+        assertEquals(0, list.removeFirst());
+        assertEquals(9, list.removeLast());
+        assertEquals(5, list.remove(4));
+        assertEquals(List.of(1, 2, 3, 4, 6, 7, 8), toList(list));
+    }
+
+    @Test
+    @DisplayName("Empty list should throw on removal and access")
+    void emptyList_RemoveAndGet_Throws() {
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(NoSuchElementException.class, () -> list.remove(0));
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+    }
+
+    @Test
+    @DisplayName("Random operations should match ArrayList")
+    void randomOperations_MatchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(6);
+            if (expected.isEmpty() || op < 3) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op == 3) {
+                assertEquals(expected.remove(0), list.removeFirst());
+            } else if (op == 4) {
+                assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, toList(list));
+    }
+
+    @Test
+    @DisplayName("iterator() and forEach() should walk blocks in order and fail fast")
+    void iteration_WalksBlocksInOrder() {
+        for (int i = 0; i < 37; i++) list.addLast(i);
+        list.remove(10);
+        list.add(3, 100);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) expected.add(list.get(i));
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : list) iterated.add(value);
+
+        assertEquals(expected, iterated);
+        assertEquals(expected, toList(list));
+        assertFalse(new UnrolledLinkList<Integer>().iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> new UnrolledLinkList<Integer>().iterator().next());
+
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.addFirst(-1);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(x -> list.removeLast()));
+    }
+
+    private static List<Integer> toList(UnrolledLinkList<Integer> list) {
+        List<Integer> result = new ArrayList<>(list.size());
+        list.forEach(result::add);
+        return result;
+    }
+}
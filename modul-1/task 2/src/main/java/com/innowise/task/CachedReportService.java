@@ -0,0 +1,149 @@
+package com.innowise.task;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes {@link Task} reports over an order dataset that it owns. Results are keyed by
+ * report name, parameter and dataset version, and held in an access-ordered LRU map of
+ * bounded size. {@link #addOrder(Order)} and {@link #updateStatus(String, OrderStatus)} bump
+ * the version and drop cached results. Cache misses run against an {@link IndexedOrderList},
+ * so the delivered reports read only the DELIVERED postings.
+ */
+public final class CachedReportService {
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final IndexedOrderList orders;
+    private final Map<String, Order> ordersById = new HashMap<>();
+    private final Map<CacheKey, Object> cache;
+    private long version;
+    private long hits;
+    private long misses;
+
+    public CachedReportService(Collection<Order> orders) {
+        this(orders, DEFAULT_MAX_ENTRIES);
+    }
+
+    public CachedReportService(Collection<Order> orders, int maxEntries) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("Max entries must be positive");
+        this.orders = new IndexedOrderList();
+        this.cache = new LinkedHashMap<CacheKey, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        if (orders != null) {
+            for (Order order : orders) {
+                register(order);
+            }
+        }
+    }
+
+    public synchronized void addOrder(Order order) {
+        register(order);
+        invalidate();
+    }
+
+    public synchronized void updateStatus(String orderId, OrderStatus status) {
+        Order order = ordersById.get(orderId);
+        if (order == null) throw new IllegalArgumentException("Unknown order: " + orderId);
+        if (order.getStatus() == status) return;
+        orders.updateStatus(order, status);
+        invalidate();
+    }
+
+    public synchronized Set<String> uniqueCities() {
+        return cached("uniqueCities", 0, () -> Collections.unmodifiableSet(Task.uniqueCities(orders)));
+    }
+
+    public synchronized double totalIncomeForCompletedOrders() {
+        return cached("totalIncomeForCompletedOrders", 0, () -> Task.totalIncomeForCompletedOrders(orders));
+    }
+
+    public synchronized OptionalDouble averageCheckForDeliveredOrders() {
+        return cached("averageCheckForDeliveredOrders", 0, () -> Task.averageCheckForDeliveredOrders(orders));
+    }
+
+    public synchronized Optional<String> mostPopularProductBySales() {
+        return cached("mostPopularProductBySales", 0, () -> Task.mostPopularProductBySales(orders));
+    }
+
+    public synchronized Set<Customer> customersWithMoreThanNOrders(long n) {
+        return cached("customersWithMoreThanNOrders", n,
+                () -> Collections.unmodifiableSet(Task.customersWithMoreThanNOrders(orders, n)));
+    }
+
+    public synchronized List<Order> orders() {
+        return Collections.unmodifiableList(new ArrayList<>(orders));
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized int cachedEntries() {
+        return cache.size();
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    private void register(Order order) {
+        if (order == null || order.getOrderId() == null) throw new IllegalArgumentException("Order and its id must not be null");
+        if (ordersById.containsKey(order.getOrderId())) {
+            throw new IllegalArgumentException("Order already registered: " + order.getOrderId());
+        }
+        orders.add(order);
+        ordersById.put(order.getOrderId(), order);
+    }
+
+    private void invalidate() {
+        version++;
+        cache.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String report, long parameter, Supplier<T> compute) {
+        CacheKey key = new CacheKey(report, parameter, version);
+        Object value = cache.get(key);
+        if (value != null) {
+            hits++;
+            return (T) value;
+        }
+        misses++;
+        T result = compute.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    private static final class CacheKey {
+        final String report;
+        final long parameter;
+        final long version;
+
+        CacheKey(String report, long parameter, long version) {
+            this.report = report;
+            this.parameter = parameter;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey that = (CacheKey) o;
+            return parameter == that.parameter && version == that.version && report.equals(that.report);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(report, parameter, version);
+        }
+    }
+}
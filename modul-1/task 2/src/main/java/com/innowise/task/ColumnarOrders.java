@@ -0,0 +1,222 @@
+package com.innowise.task;
+
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Column-oriented snapshot of a list of orders. Strings are dictionary-encoded, dates are
+ * stored as epoch milliseconds (UTC) and enums as ordinals, so the {@link Task} queries
+ * run over flat primitive arrays instead of the object graph.
+ */
+public final class ColumnarOrders {
+    public static final long NULL_DATE = Long.MIN_VALUE;
+    public static final byte NULL_ORDINAL = -1;
+
+    private static final byte DELIVERED = (byte) OrderStatus.DELIVERED.ordinal();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final int orderCount;
+    private final long[] orderDates;
+    private final byte[] statuses;
+    private final int[] orderCustomers;
+    private final int[] itemOffsets;
+
+    private final int itemCount;
+    private final int[] products;
+    private final byte[] categories;
+    private final int[] quantities;
+    private final double[] prices;
+
+    private final Customer[] customers;
+    private final int[] customerCities;
+
+    private final StringDictionary productNames;
+    private final StringDictionary cities;
+
+    private ColumnarOrders(Builder builder) {
+        this.orderCount = builder.orderCount;
+        this.orderDates = builder.orderDates;
+        this.statuses = builder.statuses;
+        this.orderCustomers = builder.orderCustomers;
+        this.itemOffsets = builder.itemOffsets;
+        this.itemCount = builder.itemCount;
+        this.products = Arrays.copyOf(builder.products, builder.itemCount);
+        this.categories = Arrays.copyOf(builder.categories, builder.itemCount);
+        this.quantities = Arrays.copyOf(builder.quantities, builder.itemCount);
+        this.prices = Arrays.copyOf(builder.prices, builder.itemCount);
+        this.customers = builder.customers.toArray(new Customer[0]);
+        this.customerCities = builder.customerCities.stream().mapToInt(Integer::intValue).toArray();
+        this.productNames = builder.productNames;
+        this.cities = builder.cities;
+    }
+
+    public static ColumnarOrders from(List<Order> orders) {
+        Builder builder = new Builder(orders == null ? 0 : orders.size());
+        if (orders != null) {
+            for (Order order : orders) {
+                builder.add(order);
+            }
+        }
+        return new ColumnarOrders(builder);
+    }
+
+    public int orderCount() { return orderCount; }
+    public int itemCount() { return itemCount; }
+    public int customerCount() { return customers.length; }
+
+    public long orderDate(int order) { return orderDates[order]; }
+    public OrderStatus status(int order) { return statuses[order] == NULL_ORDINAL ? null : STATUSES[statuses[order]]; }
+    public Customer customer(int order) { return orderCustomers[order] < 0 ? null : customers[orderCustomers[order]]; }
+    public String city(int order) { return orderCustomers[order] < 0 ? null : cities.decode(customerCities[orderCustomers[order]]); }
+    public int firstItem(int order) { return itemOffsets[order]; }
+    public int endItem(int order) { return itemOffsets[order + 1]; }
+
+    public String productName(int item) { return productNames.decode(products[item]); }
+    public Category category(int item) { return categories[item] == NULL_ORDINAL ? null : CATEGORIES[categories[item]]; }
+    public int quantity(int item) { return quantities[item]; }
+    public double price(int item) { return prices[item]; }
+
+    public Set<String> uniqueCities() {
+        return new LinkedHashSet<>(cities.values());
+    }
+
+    public double totalIncomeForCompletedOrders() {
+        return deliveredStatistics().getSum();
+    }
+
+    public OptionalDouble averageCheckForDeliveredOrders() {
+        DoubleSummaryStatistics statistics = deliveredStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    public Optional<String> mostPopularProductBySales() {
+        int[] totals = new int[productNames.size()];
+        for (int i = 0; i < itemCount; i++) {
+            if (products[i] != StringDictionary.NULL_CODE) totals[products[i]] += quantities[i];
+        }
+
+        int best = StringDictionary.NULL_CODE;
+        for (int code = 0; code < totals.length; code++) {
+            if (best == StringDictionary.NULL_CODE || totals[code] > totals[best]
+                    || totals[code] == totals[best] && productNames.decode(code).compareTo(productNames.decode(best)) < 0) {
+                best = code;
+            }
+        }
+        return Optional.ofNullable(productNames.decode(best));
+    }
+
+    public Set<Customer> customersWithMoreThanNOrders(long n) {
+        int[] counts = new int[customers.length];
+        for (int i = 0; i < orderCount; i++) {
+            if (orderCustomers[i] >= 0) counts[orderCustomers[i]]++;
+        }
+
+        Set<Customer> result = new LinkedHashSet<>();
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > n) result.add(customers[c]);
+        }
+        return result;
+    }
+
+    public double orderTotal(int order) {
+        double total = 0.0;
+        for (int i = itemOffsets[order], end = itemOffsets[order + 1]; i < end; i++) {
+            total += prices[i] * quantities[i];
+        }
+        return total;
+    }
+
+    private DoubleSummaryStatistics deliveredStatistics() {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        for (int i = 0; i < orderCount; i++) {
+            if (statuses[i] == DELIVERED) statistics.accept(orderTotal(i));
+        }
+        return statistics;
+    }
+
+    private static final class Builder {
+        final int orderCount;
+        final long[] orderDates;
+        final byte[] statuses;
+        final int[] orderCustomers;
+        final int[] itemOffsets;
+
+        int orderIndex;
+        int itemCount;
+        int[] products;
+        byte[] categories;
+        int[] quantities;
+        double[] prices;
+
+        final Map<String, Integer> customerIndex = new HashMap<>();
+        final List<Customer> customers = new ArrayList<>();
+        final List<Integer> customerCities = new ArrayList<>();
+        final StringDictionary productNames = new StringDictionary();
+        final StringDictionary cities = new StringDictionary();
+
+        Builder(int orderCount) {
+            this.orderCount = orderCount;
+            this.orderDates = new long[orderCount];
+            this.statuses = new byte[orderCount];
+            this.orderCustomers = new int[orderCount];
+            this.itemOffsets = new int[orderCount + 1];
+            int itemCapacity = Math.max(16, orderCount * 2);
+            this.products = new int[itemCapacity];
+            this.categories = new byte[itemCapacity];
+            this.quantities = new int[itemCapacity];
+            this.prices = new double[itemCapacity];
+        }
+
+        void add(Order order) {
+            int i = orderIndex++;
+            itemOffsets[i] = itemCount;
+            if (order == null) {
+                orderDates[i] = NULL_DATE;
+                statuses[i] = NULL_ORDINAL;
+                orderCustomers[i] = -1;
+                itemOffsets[i + 1] = itemCount;
+                return;
+            }
+
+            orderDates[i] = order.getOrderDate() == null
+                    ? NULL_DATE
+                    : order.getOrderDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+            statuses[i] = order.getStatus() == null ? NULL_ORDINAL : (byte) order.getStatus().ordinal();
+            orderCustomers[i] = customerIndex(order.getCustomer());
+
+            if (order.getItems() != null) {
+                for (OrderItem item : order.getItems()) {
+                    if (item != null) addItem(item);
+                }
+            }
+            itemOffsets[i + 1] = itemCount;
+        }
+
+        private int customerIndex(Customer customer) {
+            if (customer == null) return -1;
+            Integer index = customerIndex.get(customer.getCustomerId());
+            if (index != null) return index;
+
+            customerIndex.put(customer.getCustomerId(), customers.size());
+            customers.add(customer);
+            customerCities.add(cities.encode(customer.getCity()));
+            return customers.size() - 1;
+        }
+
+        private void addItem(OrderItem item) {
+            if (itemCount == products.length) {
+                int capacity = products.length * 2;
+                products = Arrays.copyOf(products, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+            products[itemCount] = productNames.encode(item.getProductName());
+            categories[itemCount] = item.getCategory() == null ? NULL_ORDINAL : (byte) item.getCategory().ordinal();
+            quantities[itemCount] = item.getQuantity();
+            prices[itemCount] = item.getPrice();
+            itemCount++;
+        }
+    }
+}
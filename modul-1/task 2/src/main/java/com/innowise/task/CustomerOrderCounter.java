@@ -0,0 +1,103 @@
+package com.innowise.task;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Single-pass order counter keyed by customer id. Counts live in an open-addressing table of
+ * primitive ints (no boxing, no second customer map). Each customer is reported once, to the
+ * sink, at the moment its count first exceeds the threshold. The reported instance is the
+ * first one seen for that id.
+ */
+public final class CustomerOrderCounter {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long emitAt;
+    private final Consumer<Customer> sink;
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private Customer[] customers = new Customer[INITIAL_CAPACITY];
+    private int size;
+
+    public CustomerOrderCounter(long threshold, Consumer<Customer> sink) {
+        this.emitAt = Math.max(threshold, 0) + 1;
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    public static Set<Customer> customersWithMoreThanNOrders(Iterable<Order> orders, long n) {
+        Set<Customer> result = new LinkedHashSet<>();
+        streamCustomersWithMoreThanNOrders(orders, n, result::add);
+        return result;
+    }
+
+    public static void streamCustomersWithMoreThanNOrders(Iterable<Order> orders, long n, Consumer<Customer> sink) {
+        if (orders == null) return;
+        CustomerOrderCounter counter = new CustomerOrderCounter(n, sink);
+        for (Order order : orders) {
+            counter.accept(order);
+        }
+    }
+
+    public boolean accept(Order order) {
+        if (order == null) return false;
+        Customer customer = order.getCustomer();
+        if (customer == null || customer.getCustomerId() == null) return false;
+
+        int slot = slotOf(customer.getCustomerId());
+        if (keys[slot] == null) {
+            keys[slot] = customer.getCustomerId();
+            customers[slot] = customer;
+            if (++size * 2 > keys.length) {
+                grow();
+                slot = slotOf(customer.getCustomerId());
+            }
+        }
+        if (counts[slot] == Integer.MAX_VALUE) return false;
+        int count = ++counts[slot];
+        if (count == emitAt) {
+            sink.accept(customers[slot]);
+            return true;
+        }
+        return false;
+    }
+
+    public int count(String customerId) {
+        if (customerId == null) return 0;
+        int slot = slotOf(customerId);
+        return keys[slot] == null ? 0 : counts[slot];
+    }
+
+    public int customerCount() {
+        return size;
+    }
+
+    private int slotOf(String key) {
+        int mask = keys.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        String[] oldKeys = keys;
+        int[] oldCounts = counts;
+        Customer[] oldCustomers = customers;
+        keys = new String[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        customers = new Customer[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int slot = slotOf(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            counts[slot] = oldCounts[i];
+            customers[slot] = oldCustomers[i];
+        }
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
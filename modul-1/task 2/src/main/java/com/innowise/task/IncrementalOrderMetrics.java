@@ -0,0 +1,167 @@
+package com.innowise.task;
+
+import java.util.*;
+
+/**
+ * Keeps the {@link Task} metrics up to date as order events arrive, without rescanning.
+ * An insert costs O(log n) per item and for its customer, a status change is O(1), and reads
+ * are O(1) except {@link #customersWithMoreThanNOrders(long)}, which is linear in the answer size.
+ * Products with equal quantities rank by name, as in {@link Task#mostPopularProductBySales(List)}.
+ */
+public final class IncrementalOrderMetrics {
+    private static final Comparator<ProductTally> BY_QUANTITY = Comparator
+            .comparingLong((ProductTally tally) -> tally.quantity).reversed()
+            .thenComparing(tally -> tally.name);
+    private static final Comparator<CustomerTally> BY_ORDERS = Comparator
+            .comparingLong((CustomerTally tally) -> tally.orders).reversed()
+            .thenComparing(tally -> tally.customerId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Map<String, TrackedOrder> orders = new HashMap<>();
+    private final Set<String> cities = new LinkedHashSet<>();
+    private final Map<String, ProductTally> products = new HashMap<>();
+    private final TreeSet<ProductTally> productRanking = new TreeSet<>(BY_QUANTITY);
+    private final Map<String, CustomerTally> customers = new HashMap<>();
+    private final TreeSet<CustomerTally> customerRanking = new TreeSet<>(BY_ORDERS);
+
+    private long deliveredCount;
+    private double deliveredSum;
+    private double deliveredCompensation;
+
+    public void orderAdded(Order order) {
+        if (order == null) throw new IllegalArgumentException("Order must not be null");
+        if (order.getOrderId() == null) throw new IllegalArgumentException("Order id must not be null");
+        if (orders.containsKey(order.getOrderId())) {
+            throw new IllegalArgumentException("Order already registered: " + order.getOrderId());
+        }
+
+        TrackedOrder tracked = new TrackedOrder(order.getStatus(), Task.orderTotal(order));
+        orders.put(order.getOrderId(), tracked);
+
+        Customer customer = order.getCustomer();
+        if (customer != null) {
+            if (customer.getCity() != null) cities.add(customer.getCity());
+            incrementCustomer(customer);
+        }
+
+        if (order.getItems() != null) {
+            for (OrderItem item : order.getItems()) {
+                if (item != null && item.getProductName() != null) {
+                    addProductQuantity(item.getProductName(), item.getQuantity());
+                }
+            }
+        }
+
+        if (tracked.status == OrderStatus.DELIVERED) addDelivered(tracked.total, 1);
+    }
+
+    public void statusChanged(String orderId, OrderStatus newStatus) {
+        TrackedOrder tracked = orders.get(orderId);
+        if (tracked == null) throw new IllegalArgumentException("Unknown order: " + orderId);
+        if (tracked.status == newStatus) return;
+
+        if (tracked.status == OrderStatus.DELIVERED) addDelivered(-tracked.total, -1);
+        if (newStatus == OrderStatus.DELIVERED) addDelivered(tracked.total, 1);
+        tracked.status = newStatus;
+    }
+
+    public int orderCount() {
+        return orders.size();
+    }
+
+    public OrderStatus statusOf(String orderId) {
+        TrackedOrder tracked = orders.get(orderId);
+        return tracked == null ? null : tracked.status;
+    }
+
+    public Set<String> uniqueCities() {
+        return Collections.unmodifiableSet(cities);
+    }
+
+    public double totalIncomeForCompletedOrders() {
+        return deliveredCount == 0 ? 0.0 : deliveredSum - deliveredCompensation;
+    }
+
+    public OptionalDouble averageCheckForDeliveredOrders() {
+        if (deliveredCount == 0) return OptionalDouble.empty();
+        return OptionalDouble.of(totalIncomeForCompletedOrders() / deliveredCount);
+    }
+
+    public Optional<String> mostPopularProductBySales() {
+        return productRanking.isEmpty() ? Optional.empty() : Optional.of(productRanking.first().name);
+    }
+
+    public Set<Customer> customersWithMoreThanNOrders(long n) {
+        Set<Customer> result = new LinkedHashSet<>();
+        for (CustomerTally tally : customerRanking) {
+            if (tally.orders <= n) break;
+            result.add(tally.customer);
+        }
+        return result;
+    }
+
+    private void incrementCustomer(Customer customer) {
+        CustomerTally tally = customers.get(customer.getCustomerId());
+        if (tally == null) {
+            tally = new CustomerTally(customer);
+            customers.put(customer.getCustomerId(), tally);
+        } else {
+            customerRanking.remove(tally);
+        }
+        tally.orders++;
+        customerRanking.add(tally);
+    }
+
+    private void addProductQuantity(String name, int quantity) {
+        ProductTally tally = products.get(name);
+        if (tally == null) {
+            tally = new ProductTally(name);
+            products.put(name, tally);
+        } else {
+            productRanking.remove(tally);
+        }
+        tally.quantity += quantity;
+        productRanking.add(tally);
+    }
+
+    private void addDelivered(double amount, int count) {
+        double y = amount - deliveredCompensation;
+        double t = deliveredSum + y;
+        deliveredCompensation = (t - deliveredSum) - y;
+        deliveredSum = t;
+        deliveredCount += count;
+        if (deliveredCount == 0) {
+            deliveredSum = 0.0;
+            deliveredCompensation = 0.0;
+        }
+    }
+
+    private static final class TrackedOrder {
+        OrderStatus status;
+        final double total;
+
+        TrackedOrder(OrderStatus status, double total) {
+            this.status = status;
+            this.total = total;
+        }
+    }
+
+    private static final class ProductTally {
+        final String name;
+        long quantity;
+
+        ProductTally(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class CustomerTally {
+        final Customer customer;
+        final String customerId;
+        long orders;
+
+        CustomerTally(Customer customer) {
+            this.customer = customer;
+            this.customerId = customer.getCustomerId();
+        }
+    }
+}
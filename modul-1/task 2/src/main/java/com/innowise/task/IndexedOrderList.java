@@ -0,0 +1,247 @@
+package com.innowise.task;
+
+import java.util.*;
+
+/**
+ * Order list that maintains secondary indexes on status, category, customer id and city.
+ * It can be passed anywhere a {@code List<Order>} is expected; {@link Task} detects it, reads
+ * the delivered postings instead of scanning every order, and ends its city and customer scans
+ * as soon as the postings show that every answer has been found, keeping list order.
+ *
+ * <p>Indexes reflect each order as it was when added. Change a status through
+ * {@link #updateStatus(Order, OrderStatus)}, or call {@link #reindex(Order)} after any other
+ * mutation. {@link #add(int, Order)} rejects an order that is already in the list, while
+ * {@link #set(int, Order)} accepts one, so that {@link Collections#swap}, {@link Collections#reverse}
+ * and {@link List#sort} can move orders around. Such an order is indexed once, however many
+ * slots hold it; while any order sits in more than one slot, {@link Task} and {@link OrderQuery}
+ * scan the list instead of the postings, so their answers always match a plain list.
+ *
+ * <p>Postings iterate in insertion order, not list order. Delivered totals read from them are
+ * therefore summed in a different order than a list scan and, once the list has been reordered,
+ * may differ from it in the last bits; the cents reports are exact either way.
+ */
+public class IndexedOrderList extends AbstractList<Order> implements RandomAccess {
+    private final List<Order> orders;
+    private final Map<Order, Keys> members = new IdentityHashMap<>();
+    private final Map<OrderStatus, Set<Order>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<Category, Set<Order>> byCategory = new EnumMap<>(Category.class);
+    private final Map<String, Set<Order>> byCustomer = new LinkedHashMap<>();
+    private final Map<String, Set<Order>> byCity = new LinkedHashMap<>();
+    private int duplicateSlots;
+
+    public IndexedOrderList() {
+        this.orders = new ArrayList<>();
+    }
+
+    public IndexedOrderList(Collection<Order> orders) {
+        this.orders = new ArrayList<>(orders == null ? 0 : orders.size());
+        if (orders != null) addAll(orders);
+    }
+
+    @Override
+    public Order get(int index) {
+        return orders.get(index);
+    }
+
+    @Override
+    public int size() {
+        return orders.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o == null ? orders.contains(null) : members.containsKey(o);
+    }
+
+    @Override
+    public void add(int index, Order order) {
+        requireNew(order);
+        orders.add(index, order);
+        modCount++;
+        index(order);
+    }
+
+    @Override
+    public Order set(int index, Order order) {
+        Order previous = orders.get(index);
+        if (previous == order) return previous;
+        orders.set(index, order);
+        index(order);
+        unindex(previous);
+        return previous;
+    }
+
+    @Override
+    public void sort(Comparator<? super Order> c) {
+        orders.sort(c);
+        modCount++;
+    }
+
+    @Override
+    public Order remove(int index) {
+        Order removed = orders.remove(index);
+        modCount++;
+        unindex(removed);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        orders.clear();
+        members.clear();
+        byStatus.clear();
+        byCategory.clear();
+        byCustomer.clear();
+        byCity.clear();
+        duplicateSlots = 0;
+        modCount++;
+    }
+
+    public void updateStatus(Order order, OrderStatus status) {
+        Keys keys = requireMember(order);
+        remove(byStatus, keys.status, order);
+        order.setStatus(status);
+        keys.status = status;
+        add(byStatus, status, order);
+    }
+
+    public void reindex(Order order) {
+        Keys previous = requireMember(order);
+        unpost(order, previous);
+        Keys keys = new Keys(order);
+        keys.copies = previous.copies;
+        members.put(order, keys);
+        post(order, keys);
+    }
+
+    public Collection<Order> byStatus(OrderStatus status) {
+        return view(byStatus.get(status));
+    }
+
+    public Collection<Order> byCategory(Category category) {
+        return view(byCategory.get(category));
+    }
+
+    public Collection<Order> byCustomer(String customerId) {
+        return view(byCustomer.get(customerId));
+    }
+
+    public Collection<Order> byCity(String city) {
+        return view(byCity.get(city));
+    }
+
+    public List<Order> byCustomerAndStatus(String customerId, OrderStatus status) {
+        Set<Order> customerOrders = byCustomer.get(customerId);
+        Set<Order> statusOrders = byStatus.get(status);
+        if (customerOrders == null || statusOrders == null) return Collections.emptyList();
+
+        boolean customerSmaller = customerOrders.size() <= statusOrders.size();
+        Set<Order> scan = customerSmaller ? customerOrders : statusOrders;
+        Set<Order> probe = customerSmaller ? statusOrders : customerOrders;
+        List<Order> result = new ArrayList<>();
+        for (Order order : scan) {
+            if (probe.contains(order)) result.add(order);
+        }
+        return result;
+    }
+
+    public Set<String> indexedCities() {
+        return Collections.unmodifiableSet(byCity.keySet());
+    }
+
+    public Set<String> indexedCustomerIds() {
+        return Collections.unmodifiableSet(byCustomer.keySet());
+    }
+
+    /** True while some order occupies more than one slot, so postings undercount the list. */
+    boolean hasDuplicates() {
+        return duplicateSlots > 0;
+    }
+
+    private void index(Order order) {
+        if (order == null) return;
+        Keys keys = members.get(order);
+        if (keys != null) {
+            keys.copies++;
+            duplicateSlots++;
+            return;
+        }
+        keys = new Keys(order);
+        members.put(order, keys);
+        post(order, keys);
+    }
+
+    private void unindex(Order order) {
+        if (order == null) return;
+        Keys keys = members.get(order);
+        if (keys.copies > 1) {
+            keys.copies--;
+            duplicateSlots--;
+            return;
+        }
+        members.remove(order);
+        unpost(order, keys);
+    }
+
+    private void post(Order order, Keys keys) {
+        add(byStatus, keys.status, order);
+        for (Category category : keys.categories) {
+            add(byCategory, category, order);
+        }
+        add(byCustomer, keys.customerId, order);
+        add(byCity, keys.city, order);
+    }
+
+    private void unpost(Order order, Keys keys) {
+        remove(byStatus, keys.status, order);
+        for (Category category : keys.categories) {
+            remove(byCategory, category, order);
+        }
+        remove(byCustomer, keys.customerId, order);
+        remove(byCity, keys.city, order);
+    }
+
+    private void requireNew(Order order) {
+        if (order != null && members.containsKey(order)) throw new IllegalArgumentException("Order already in list");
+    }
+
+    private Keys requireMember(Order order) {
+        Keys keys = order == null ? null : members.get(order);
+        if (keys == null) throw new IllegalArgumentException("Order is not in this list");
+        return keys;
+    }
+
+    private static <K> void add(Map<K, Set<Order>> index, K key, Order order) {
+        if (key != null) index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(order);
+    }
+
+    private static <K> void remove(Map<K, Set<Order>> index, K key, Order order) {
+        if (key == null) return;
+        Set<Order> postings = index.get(key);
+        if (postings != null && postings.remove(order) && postings.isEmpty()) index.remove(key);
+    }
+
+    private static Collection<Order> view(Set<Order> postings) {
+        return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+    }
+
+    private static final class Keys {
+        OrderStatus status;
+        int copies = 1;
+        final EnumSet<Category> categories = EnumSet.noneOf(Category.class);
+        final String customerId;
+        final String city;
+
+        Keys(Order order) {
+            this.status = order.getStatus();
+            if (order.getItems() != null) {
+                for (OrderItem item : order.getItems()) {
+                    if (item != null && item.getCategory() != null) categories.add(item.getCategory());
+                }
+            }
+            Customer customer = order.getCustomer();
+            this.customerId = customer == null ? null : customer.getCustomerId();
+            this.city = customer == null ? null : customer.getCity();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.innowise.task;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+import static com.innowise.task.OrderBinaryFormat.*;
+
+/**
+ * Memory-mapped reader for the {@link OrderBinaryFormat} layout. Records are decoded straight
+ * from the page cache without copying through stream buffers. A single mapping cannot exceed
+ * 2 GB, so the file is mapped in windows that move forward as records are read.
+ */
+public final class MappedOrderReader implements Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final OrderRecordDecoder decoder = new OrderRecordDecoder();
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    public MappedOrderReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedOrderReader(Path file, int windowSize) throws IOException {
+        if (windowSize < HEADER_SIZE) throw new IllegalArgumentException("Window too small");
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        try {
+            if (fileSize < HEADER_SIZE) throw new IOException("Not an order file");
+            map(0, HEADER_SIZE);
+            checkHeader(window.getInt(0), window.getShort(4));
+            position = HEADER_SIZE;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Returns the next order, or {@code null} at the end of the file. */
+    public Order next() throws IOException {
+        while (position < fileSize) {
+            if (fileSize - position < RECORD_HEADER_SIZE) throw new IOException("Truncated record header");
+            map(position, RECORD_HEADER_SIZE);
+            int offset = (int) (position - windowStart);
+            byte tag = window.get(offset);
+            int length = window.getInt(offset + 1);
+            if (length < 0 || length > MAX_RECORD_SIZE
+                    || fileSize - position - RECORD_HEADER_SIZE < length) {
+                throw new IOException("Corrupt record length: " + length);
+            }
+
+            map(position, RECORD_HEADER_SIZE + length);
+            offset = (int) (position - windowStart);
+            position += RECORD_HEADER_SIZE + length;
+            Order order = decoder.decode(tag, window.slice(offset + RECORD_HEADER_SIZE, length));
+            if (order != null) return order;
+        }
+        return null;
+    }
+
+    public void forEach(Consumer<Order> action) throws IOException {
+        Order order;
+        while ((order = next()) != null) {
+            action.accept(order);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void map(long start, int length) throws IOException {
+        if (window != null && start >= windowStart && start + length <= windowStart + window.capacity()) return;
+        long size = Math.min(fileSize - start, Math.max(windowSize, length));
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+    }
+}
@@ -0,0 +1,68 @@
+package com.innowise.task;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary order file layout, shared by {@link OrderBinaryWriter}, {@link OrderBinaryReader}
+ * and {@link MappedOrderReader}.
+ *
+ * <p>A file starts with {@link #MAGIC} and {@link #VERSION}, followed by records of
+ * {@code tag:byte, length:int, payload}. Low-cardinality strings (cities and product names)
+ * are written once as STRING records and then referenced by their int code; order ids and the
+ * per-customer strings are written inline as {@code length:int, UTF-8 bytes}, with length
+ * {@link #NULL_REF} for null, so the dictionary does not grow with the file. Customers are
+ * written once and referenced by index.
+ * Dates are stored as epoch second plus nano of second (UTC). All values are big-endian.
+ * Record payloads are at most {@link #MAX_RECORD_SIZE} bytes; readers treat a longer length as
+ * corruption. Readers skip records with unknown tags.
+ */
+public final class OrderBinaryFormat {
+    public static final int MAGIC = 0x4F524453;
+    public static final short VERSION = 2;
+
+    static final int HEADER_SIZE = 6;
+    static final int RECORD_HEADER_SIZE = 5;
+    static final int MAX_RECORD_SIZE = 1 << 24;
+    static final byte TAG_STRING = 1;
+    static final byte TAG_CUSTOMER = 2;
+    static final byte TAG_ORDER = 3;
+
+    static final int NULL_REF = -1;
+    static final long NULL_DATE = Long.MIN_VALUE;
+    static final byte NULL_ORDINAL = -1;
+    static final byte NULL_ITEM = -2;
+    static final int NULL_ITEMS = -1;
+
+    private OrderBinaryFormat() { }
+
+    public static void write(Path file, Iterable<Order> orders) throws IOException {
+        try (OrderBinaryWriter writer = new OrderBinaryWriter(Files.newOutputStream(file))) {
+            writer.writeAll(orders);
+        }
+    }
+
+    public static List<Order> read(Path file) throws IOException {
+        List<Order> orders = new ArrayList<>();
+        try (OrderBinaryReader reader = new OrderBinaryReader(Files.newInputStream(file))) {
+            reader.forEach(orders::add);
+        }
+        return orders;
+    }
+
+    public static List<Order> readMapped(Path file) throws IOException {
+        List<Order> orders = new ArrayList<>();
+        try (MappedOrderReader reader = new MappedOrderReader(file)) {
+            reader.forEach(orders::add);
+        }
+        return orders;
+    }
+
+    static void checkHeader(int magic, short version) throws IOException {
+        if (magic != MAGIC) throw new IOException("Not an order file");
+        if (version != VERSION) throw new IOException("Unsupported order file version: " + version);
+    }
+}
@@ -0,0 +1,53 @@
+package com.innowise.task;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static com.innowise.task.OrderBinaryFormat.*;
+
+/**
+ * Streaming reader for the {@link OrderBinaryFormat} layout. Orders are decoded one at a
+ * time, so a file never has to fit in memory.
+ */
+public final class OrderBinaryReader implements Closeable {
+    private final DataInputStream in;
+    private final OrderRecordDecoder decoder = new OrderRecordDecoder();
+    private byte[] buffer = new byte[256];
+
+    public OrderBinaryReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        try {
+            checkHeader(this.in.readInt(), this.in.readShort());
+        } catch (EOFException e) {
+            throw new IOException("Not an order file", e);
+        }
+    }
+
+    /** Returns the next order, or {@code null} at the end of the file. */
+    public Order next() throws IOException {
+        while (true) {
+            int tag = in.read();
+            if (tag < 0) return null;
+            int length = in.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) throw new IOException("Corrupt record length: " + length);
+            if (length > buffer.length) buffer = new byte[Math.max(length, Math.min(buffer.length * 2, MAX_RECORD_SIZE))];
+            in.readFully(buffer, 0, length);
+
+            Order order = decoder.decode((byte) tag, ByteBuffer.wrap(buffer, 0, length).slice());
+            if (order != null) return order;
+        }
+    }
+
+    public void forEach(Consumer<Order> action) throws IOException {
+        Order order;
+        while ((order = next()) != null) {
+            action.accept(order);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
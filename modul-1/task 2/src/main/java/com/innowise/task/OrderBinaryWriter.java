@@ -0,0 +1,149 @@
+package com.innowise.task;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static com.innowise.task.OrderBinaryFormat.*;
+
+/**
+ * Streams orders into the {@link OrderBinaryFormat} layout. Customer instances shared between
+ * orders are written once and stay shared when read back. Memory grows with the distinct
+ * customers, cities and product names, not with the number of orders.
+ */
+public final class OrderBinaryWriter implements Closeable, Flushable {
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream payload = new DataOutputStream(payloadBytes);
+    private final StringDictionary strings = new StringDictionary();
+    private final Map<Customer, Integer> customers = new IdentityHashMap<>();
+    private long ordersWritten;
+
+    public OrderBinaryWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.out.writeInt(MAGIC);
+        this.out.writeShort(VERSION);
+    }
+
+    public void writeAll(Iterable<Order> orders) throws IOException {
+        if (orders == null) return;
+        for (Order order : orders) {
+            write(order);
+        }
+    }
+
+    public void write(Order order) throws IOException {
+        if (order == null) throw new IllegalArgumentException("Order must not be null");
+        int customer = customer(order.getCustomer());
+        if (order.getItems() != null) {
+            for (OrderItem item : order.getItems()) {
+                if (item != null) string(item.getProductName());
+            }
+        }
+
+        writeInline(order.getOrderId());
+        writeDate(order.getOrderDate());
+        payload.writeInt(customer);
+        payload.writeByte(order.getStatus() == null ? NULL_ORDINAL : order.getStatus().ordinal());
+        if (order.getItems() == null) {
+            payload.writeInt(NULL_ITEMS);
+        } else {
+            payload.writeInt(order.getItems().size());
+            for (OrderItem item : order.getItems()) {
+                if (item == null) {
+                    payload.writeByte(NULL_ITEM);
+                    continue;
+                }
+                payload.writeByte(item.getCategory() == null ? NULL_ORDINAL : item.getCategory().ordinal());
+                payload.writeInt(strings.codeOf(item.getProductName()));
+                payload.writeInt(item.getQuantity());
+                payload.writeDouble(item.getPrice());
+            }
+        }
+        flushRecord(TAG_ORDER);
+        ordersWritten++;
+    }
+
+    public long ordersWritten() {
+        return ordersWritten;
+    }
+
+    int dictionarySize() {
+        return strings.size();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private int customer(Customer customer) throws IOException {
+        if (customer == null) return NULL_REF;
+        Integer ref = customers.get(customer);
+        if (ref != null) return ref;
+
+        int city = string(customer.getCity());
+        writeInline(customer.getCustomerId());
+        writeInline(customer.getName());
+        writeInline(customer.getEmail());
+        writeDate(customer.getRegisteredAt());
+        payload.writeInt(customer.getAge());
+        payload.writeInt(city);
+        flushRecord(TAG_CUSTOMER);
+
+        ref = customers.size();
+        customers.put(customer, ref);
+        return ref;
+    }
+
+    private int string(String value) throws IOException {
+        if (value == null) return NULL_REF;
+        int code = strings.codeOf(value);
+        if (code != StringDictionary.NULL_CODE) return code;
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(TAG_STRING);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return strings.encode(value);
+    }
+
+    private void writeInline(String value) throws IOException {
+        if (value == null) {
+            payload.writeInt(NULL_REF);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        payload.writeInt(bytes.length);
+        payload.write(bytes);
+    }
+
+    private void writeDate(LocalDateTime date) throws IOException {
+        if (date == null) {
+            payload.writeLong(NULL_DATE);
+            payload.writeInt(0);
+        } else {
+            payload.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+            payload.writeInt(date.getNano());
+        }
+    }
+
+    private void flushRecord(byte tag) throws IOException {
+        if (payloadBytes.size() > MAX_RECORD_SIZE) {
+            payloadBytes.reset();
+            throw new IOException("Record exceeds " + MAX_RECORD_SIZE + " bytes");
+        }
+        out.writeByte(tag);
+        out.writeInt(payloadBytes.size());
+        payloadBytes.writeTo(out);
+        payloadBytes.reset();
+    }
+}
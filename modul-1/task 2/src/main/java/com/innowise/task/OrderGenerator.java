@@ -0,0 +1,292 @@
+package com.innowise.task;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Seeded, reproducible order generator for load and benchmark datasets. Orders are produced
+ * in fixed-size partitions, each with its own {@link SplittableRandom} derived from the seed
+ * and the partition number, so the same seed yields the same orders whether generation runs
+ * sequentially or in parallel. Product popularity and customer activity follow Zipf
+ * distributions (exponent 0 means uniform). Orders are streamed to a consumer or a file
+ * and are never collected unless asked for.
+ */
+public final class OrderGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final String[] DEFAULT_PRODUCTS = {
+            "iPhone", "Samsung TV", "Nike Shoes", "Adidas Jacket", "Java Book",
+            "Python Guide", "Sofa", "Dining Table", "Lipstick", "Perfume",
+            "Lego Set", "Barbie Doll", "Laptop", "Headphones", "Watch",
+            "Desk Lamp", "Novel", "Textbook", "T-Shirt", "Jeans"
+    };
+
+    private final long seed;
+    private final String[] products;
+    private final Category[] productCategories;
+    private final int maxItemsPerOrder;
+    private final LocalDateTime baseTime;
+    private final long dateRangeSeconds;
+    private final int partitionSize;
+    private final Customer[] customers;
+    private final ZipfSampler productSampler;
+    private final ZipfSampler customerSampler;
+
+    private OrderGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.products = builder.products;
+        this.productCategories = new Category[products.length];
+        for (int i = 0; i < products.length; i++) {
+            productCategories[i] = CATEGORIES[(int) Math.floorMod(mix(seed ^ i), (long) CATEGORIES.length)];
+        }
+        this.maxItemsPerOrder = Math.min(builder.maxItemsPerOrder, products.length);
+        this.baseTime = builder.baseTime;
+        this.dateRangeSeconds = builder.dateRangeDays * 24L * 60 * 60;
+        this.partitionSize = builder.partitionSize;
+        this.customers = createCustomers(builder.customerCount, builder.cityCount);
+        this.productSampler = new ZipfSampler(products.length, builder.productSkew);
+        this.customerSampler = new ZipfSampler(customers.length, builder.customerSkew);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Customer> customers() {
+        return Collections.unmodifiableList(Arrays.asList(customers));
+    }
+
+    public List<Order> generate(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        generate(count, orders::add);
+        return orders;
+    }
+
+    /** Emits {@code count} orders in id order on the calling thread. */
+    public void generate(long count, Consumer<Order> sink) {
+        for (long partition = 0; partition < partitions(count); partition++) {
+            generatePartition(partition, count, sink);
+        }
+    }
+
+    /**
+     * Emits {@code count} orders from the common fork/join pool. The sink must be thread-safe;
+     * the set of orders equals that of {@link #generate(long, Consumer)} but arrival order does not.
+     */
+    public void generateParallel(long count, Consumer<Order> sink) {
+        LongStream.range(0, partitions(count)).parallel().forEach(partition -> generatePartition(partition, count, sink));
+    }
+
+    /**
+     * Writes {@code count} orders in id order to an {@link OrderBinaryFormat} file. Partitions are
+     * generated in parallel one batch (a partition per available processor) at a time. Memory is
+     * bounded by that batch plus the customers and the writer's city and product dictionary; it
+     * does not grow with {@code count}.
+     */
+    public void writeTo(Path file, long count) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+             OrderBinaryWriter writer = new OrderBinaryWriter(out)) {
+            int batch = Math.max(1, Runtime.getRuntime().availableProcessors());
+            long partitions = partitions(count);
+            for (long first = 0; first < partitions; first += batch) {
+                long start = first;
+                int size = (int) Math.min(batch, partitions - first);
+                List<List<Order>> generated = new ArrayList<>(Collections.nCopies(size, null));
+                IntStream.range(0, size).parallel().forEach(i -> {
+                    List<Order> orders = new ArrayList<>(partitionSize);
+                    generatePartition(start + i, count, orders::add);
+                    generated.set(i, orders);
+                });
+                for (List<Order> orders : generated) {
+                    writer.writeAll(orders);
+                }
+            }
+        }
+    }
+
+    private long partitions(long count) {
+        if (count < 0) throw new IllegalArgumentException("Count must not be negative");
+        return (count + partitionSize - 1) / partitionSize;
+    }
+
+    private void generatePartition(long partition, long count, Consumer<Order> sink) {
+        SplittableRandom random = new SplittableRandom(mix(seed + GOLDEN_GAMMA * (partition + 1)));
+        long first = partition * partitionSize;
+        long end = Math.min(count, first + partitionSize);
+        boolean[] used = new boolean[products.length];
+        for (long id = first; id < end; id++) {
+            sink.accept(createOrder(id, random, used));
+        }
+    }
+
+    private Order createOrder(long id, SplittableRandom random, boolean[] used) {
+        Order order = new Order();
+        order.setOrderId("ORDER_" + (id + 1));
+        order.setOrderDate(baseTime.plusSeconds(random.nextLong(dateRangeSeconds)));
+        order.setCustomer(customers[customerSampler.sample(random)]);
+        order.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+
+        int itemCount = 1 + random.nextInt(maxItemsPerOrder);
+        int[] picked = new int[itemCount];
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            int product = productSampler.sample(random);
+            while (used[product]) {
+                product = (product + 1) % products.length;
+            }
+            used[product] = true;
+            picked[i] = product;
+
+            OrderItem item = new OrderItem();
+            item.setProductName(products[product]);
+            item.setCategory(productCategories[product]);
+            item.setQuantity(1 + random.nextInt(3));
+            item.setPrice((1000 + random.nextInt(49000)) / 100.0);
+            items.add(item);
+        }
+        for (int product : picked) {
+            used[product] = false;
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    private Customer[] createCustomers(int count, int cityCount) {
+        Customer[] result = new Customer[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(mix(~seed + GOLDEN_GAMMA * (i + 1)));
+            Customer customer = new Customer();
+            customer.setCustomerId("CUST_" + (i + 1));
+            customer.setName("Customer_" + (i + 1));
+            customer.setEmail("customer" + (i + 1) + "@example.com");
+            customer.setRegisteredAt(baseTime.minusDays(random.nextInt(365)));
+            customer.setAge(18 + random.nextInt(50));
+            customer.setCity("City_" + (1 + random.nextInt(cityCount)));
+            result[i] = customer;
+        });
+        return result;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Samples ranks 0..n-1 with probability proportional to {@code 1 / (rank + 1)^exponent}. */
+    static final class ZipfSampler {
+        private final int n;
+        private final double[] cdf;
+
+        ZipfSampler(int n, double exponent) {
+            this.n = n;
+            if (exponent == 0) {
+                this.cdf = null;
+                return;
+            }
+            this.cdf = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cdf[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            if (cdf == null) return random.nextInt(n);
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(index < 0 ? -index - 1 : index, n - 1);
+        }
+    }
+
+    public static final class Builder {
+        private long seed = 42;
+        private int customerCount = 400;
+        private int cityCount = 50;
+        private String[] products = DEFAULT_PRODUCTS;
+        private double productSkew = 1.0;
+        private double customerSkew = 1.0;
+        private int maxItemsPerOrder = 3;
+        private LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        private int dateRangeDays = 30;
+        private int partitionSize = 1 << 16;
+
+        private Builder() { }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder customerCount(int customerCount) {
+            if (customerCount <= 0) throw new IllegalArgumentException("Customer count must be positive");
+            this.customerCount = customerCount;
+            return this;
+        }
+
+        public Builder cityCount(int cityCount) {
+            if (cityCount <= 0) throw new IllegalArgumentException("City count must be positive");
+            this.cityCount = cityCount;
+            return this;
+        }
+
+        public Builder products(String... products) {
+            if (products == null || products.length == 0) throw new IllegalArgumentException("Products must not be empty");
+            if (new HashSet<>(Arrays.asList(products)).size() != products.length || Arrays.asList(products).contains(null)) {
+                throw new IllegalArgumentException("Products must be distinct and non-null");
+            }
+            this.products = products.clone();
+            return this;
+        }
+
+        public Builder productSkew(double exponent) {
+            if (exponent < 0) throw new IllegalArgumentException("Skew must not be negative");
+            this.productSkew = exponent;
+            return this;
+        }
+
+        public Builder customerSkew(double exponent) {
+            if (exponent < 0) throw new IllegalArgumentException("Skew must not be negative");
+            this.customerSkew = exponent;
+            return this;
+        }
+
+        public Builder maxItemsPerOrder(int maxItemsPerOrder) {
+            if (maxItemsPerOrder <= 0) throw new IllegalArgumentException("Max items must be positive");
+            this.maxItemsPerOrder = maxItemsPerOrder;
+            return this;
+        }
+
+        public Builder baseTime(LocalDateTime baseTime) {
+            this.baseTime = Objects.requireNonNull(baseTime, "baseTime");
+            return this;
+        }
+
+        public Builder dateRangeDays(int dateRangeDays) {
+            if (dateRangeDays <= 0) throw new IllegalArgumentException("Date range must be positive");
+            this.dateRangeDays = dateRangeDays;
+            return this;
+        }
+
+        public Builder partitionSize(int partitionSize) {
+            if (partitionSize <= 0) throw new IllegalArgumentException("Partition size must be positive");
+            this.partitionSize = partitionSize;
+            return this;
+        }
+
+        public OrderGenerator build() {
+            return new OrderGenerator(this);
+        }
+    }
+}
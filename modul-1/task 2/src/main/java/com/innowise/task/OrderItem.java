@@ -4,6 +4,7 @@ public class OrderItem {
     private String productName;
     private int quantity;
     private double price;
+    private long priceCents;
     private Category category;
 
     public String getProductName() { return productName; }
@@ -11,7 +12,9 @@ public class OrderItem {
     public int getQuantity() { return quantity; }
     public void setQuantity(int quantity) { this.quantity = quantity; }
     public double getPrice() { return price; }
-    public void setPrice(double price) { this.price = price; }
+    public void setPrice(double price) { this.price = price; this.priceCents = Math.round(price * 100); }
+    public long getPriceCents() { return priceCents; }
+    public void setPriceCents(long priceCents) { this.priceCents = priceCents; this.price = priceCents / 100.0; }
     public Category getCategory() { return category; }
     public void setCategory(Category category) { this.category = category; }
 }
\ No newline at end of file
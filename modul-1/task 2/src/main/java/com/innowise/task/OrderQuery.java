@@ -0,0 +1,510 @@
+package com.innowise.task;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Ad-hoc filter and aggregate queries over orders.
+ *
+ * <pre>{@code
+ * QueryResult revenueByCity = OrderQuery.from(orders)
+ *         .whereStatus(OrderStatus.DELIVERED)
+ *         .between(from, to)
+ *         .groupBy(OrderQuery.GroupKey.CITY)
+ *         .aggregate(Aggregate.sum(OrderQuery.Measure.ORDER_TOTAL), Aggregate.count())
+ *         .execute();
+ * }</pre>
+ *
+ * <p>Filters are ANDed. A query runs at order grain, or at item grain when it groups by an
+ * item key or aggregates an item measure; at item grain the category filter also selects
+ * which items of a matching order are counted. When the source is an {@link IndexedOrderList},
+ * the planner drives the query from the smallest matching index posting; remaining filters
+ * are applied in order of estimated selectivity. {@link #explain()} shows the chosen plan.
+ *
+ * <p>Rows whose measure is undefined, such as {@link Measure#CUSTOMER_AGE} of an order without
+ * a customer, are left out of that aggregate only. AVG, MIN and MAX over no rows give NaN.
+ */
+public final class OrderQuery {
+    private static final double UNKNOWN_CITY_SELECTIVITY = 0.1;
+    private static final double DATE_RANGE_SELECTIVITY = 0.5;
+    private static final double AGE_SPAN = 50.0;
+
+    public enum GroupKey {
+        NONE(false), STATUS(false), CITY(false), CUSTOMER(false), DAY(false), CATEGORY(true), PRODUCT(true);
+
+        final boolean itemLevel;
+
+        GroupKey(boolean itemLevel) {
+            this.itemLevel = itemLevel;
+        }
+    }
+
+    public enum Measure {
+        ORDER_TOTAL(false), CUSTOMER_AGE(false), ITEM_REVENUE(true), QUANTITY(true), PRICE(true);
+
+        final boolean itemLevel;
+
+        Measure(boolean itemLevel) {
+            this.itemLevel = itemLevel;
+        }
+    }
+
+    private final List<Order> source;
+    private EnumSet<OrderStatus> statuses;
+    private EnumSet<Category> categories;
+    private Set<String> cities;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int minAge = Integer.MIN_VALUE;
+    private int maxAge = Integer.MAX_VALUE;
+    private GroupKey groupKey = GroupKey.NONE;
+    private final List<Aggregate> aggregates = new ArrayList<>();
+
+    private OrderQuery(List<Order> source) {
+        this.source = source == null ? Collections.emptyList() : source;
+    }
+
+    public static OrderQuery from(List<Order> orders) {
+        return new OrderQuery(orders);
+    }
+
+    public OrderQuery whereStatus(OrderStatus first, OrderStatus... rest) {
+        statuses = intersect(statuses, EnumSet.of(first, rest));
+        return this;
+    }
+
+    public OrderQuery whereCategory(Category first, Category... rest) {
+        categories = intersect(categories, EnumSet.of(first, rest));
+        return this;
+    }
+
+    public OrderQuery whereCity(String... cities) {
+        Set<String> values = new HashSet<>(Arrays.asList(cities));
+        if (this.cities != null) values.retainAll(this.cities);
+        this.cities = values;
+        return this;
+    }
+
+    /** Keeps orders dated in {@code [from, to)}; either bound may be {@code null}. */
+    public OrderQuery between(LocalDateTime from, LocalDateTime to) {
+        if (from != null && (this.from == null || from.isAfter(this.from))) this.from = from;
+        if (to != null && (this.to == null || to.isBefore(this.to))) this.to = to;
+        return this;
+    }
+
+    /** Keeps orders whose customer age is in {@code [min, max]}. */
+    public OrderQuery whereAge(int min, int max) {
+        minAge = Math.max(minAge, min);
+        maxAge = Math.min(maxAge, max);
+        return this;
+    }
+
+    public OrderQuery groupBy(GroupKey key) {
+        this.groupKey = Objects.requireNonNull(key, "key");
+        return this;
+    }
+
+    public OrderQuery aggregate(Aggregate... aggregates) {
+        this.aggregates.addAll(Arrays.asList(aggregates));
+        return this;
+    }
+
+    public QueryResult execute() {
+        return plan().run();
+    }
+
+    public String explain() {
+        return plan().toString();
+    }
+
+    private Plan plan() {
+        List<Aggregate> selected = aggregates.isEmpty() ? List.of(Aggregate.count()) : new ArrayList<>(aggregates);
+        boolean itemGrain = groupKey.itemLevel;
+        for (Aggregate aggregate : selected) {
+            if (aggregate.measure != null && aggregate.measure.itemLevel) itemGrain = true;
+        }
+        for (Aggregate aggregate : selected) {
+            if (itemGrain && aggregate.measure == Measure.ORDER_TOTAL) {
+                throw new IllegalArgumentException("ORDER_TOTAL cannot be aggregated at item grain");
+            }
+        }
+
+        IndexedOrderList indexed = source instanceof IndexedOrderList && !((IndexedOrderList) source).hasDuplicates()
+                ? (IndexedOrderList) source : null;
+        List<Filter> filters = new ArrayList<>();
+        if (statuses != null) filters.add(new StatusFilter(statuses, indexed, source.size()));
+        if (categories != null) filters.add(new CategoryFilter(categories, indexed, source.size()));
+        if (cities != null) filters.add(new CityFilter(cities, indexed, source.size()));
+        if (from != null || to != null) filters.add(new DateFilter(from, to));
+        if (minAge != Integer.MIN_VALUE || maxAge != Integer.MAX_VALUE) filters.add(new AgeFilter(minAge, maxAge));
+
+        IndexFilter access = null;
+        if (indexed != null) {
+            for (Filter filter : filters) {
+                if (filter instanceof IndexFilter
+                        && (access == null || ((IndexFilter) filter).postings() < access.postings())) {
+                    access = (IndexFilter) filter;
+                }
+            }
+            filters.remove(access);
+        }
+        filters.sort(Comparator.comparingDouble(filter -> filter.selectivity));
+
+        EnumSet<Category> itemCategories = itemGrain ? categories : null;
+        return new Plan(source, access, filters.toArray(new Filter[0]), itemGrain, itemCategories, groupKey, selected);
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> intersect(EnumSet<E> current, EnumSet<E> values) {
+        if (current != null) values.retainAll(current);
+        return values;
+    }
+
+    public static final class Aggregate {
+        public enum Function { COUNT, SUM, AVG, MIN, MAX }
+
+        final Function function;
+        final Measure measure;
+
+        private Aggregate(Function function, Measure measure) {
+            this.function = function;
+            this.measure = measure;
+        }
+
+        public static Aggregate count() { return new Aggregate(Function.COUNT, null); }
+        public static Aggregate sum(Measure measure) { return new Aggregate(Function.SUM, Objects.requireNonNull(measure)); }
+        public static Aggregate avg(Measure measure) { return new Aggregate(Function.AVG, Objects.requireNonNull(measure)); }
+        public static Aggregate min(Measure measure) { return new Aggregate(Function.MIN, Objects.requireNonNull(measure)); }
+        public static Aggregate max(Measure measure) { return new Aggregate(Function.MAX, Objects.requireNonNull(measure)); }
+
+        @Override
+        public String toString() {
+            return measure == null ? function.name() : function + "(" + measure + ")";
+        }
+    }
+
+    private static final class Plan {
+        private final List<Order> source;
+        private final IndexFilter access;
+        private final Filter[] filters;
+        private final boolean itemGrain;
+        private final EnumSet<Category> itemCategories;
+        private final GroupKey groupKey;
+        private final Aggregate[] aggregates;
+
+        Plan(List<Order> source, IndexFilter access, Filter[] filters, boolean itemGrain,
+             EnumSet<Category> itemCategories, GroupKey groupKey, List<Aggregate> aggregates) {
+            this.source = source;
+            this.access = access;
+            this.filters = filters;
+            this.itemGrain = itemGrain;
+            this.itemCategories = itemCategories;
+            this.groupKey = groupKey;
+            this.aggregates = aggregates.toArray(new Aggregate[0]);
+        }
+
+        QueryResult run() {
+            Map<String, double[]> groups = new HashMap<>();
+            for (Order order : access == null ? source : access.scan((IndexedOrderList) source)) {
+                if (order == null || !matches(order)) continue;
+                if (!itemGrain) {
+                    accumulate(groups.computeIfAbsent(orderKey(order), k -> newState()), order, null);
+                    continue;
+                }
+                if (order.getItems() == null) continue;
+                for (OrderItem item : order.getItems()) {
+                    if (item == null || (itemCategories != null && !itemCategories.contains(item.getCategory()))) continue;
+                    String key = groupKey.itemLevel ? itemKey(item) : orderKey(order);
+                    accumulate(groups.computeIfAbsent(key, k -> newState()), order, item);
+                }
+            }
+
+            List<String> columns = new ArrayList<>(aggregates.length);
+            for (Aggregate aggregate : aggregates) {
+                columns.add(aggregate.toString());
+            }
+            List<QueryResult.Row> rows = new ArrayList<>(groups.size());
+            for (Map.Entry<String, double[]> group : groups.entrySet()) {
+                rows.add(new QueryResult.Row(group.getKey(), finish(group.getValue())));
+            }
+            rows.sort(Comparator.comparing(QueryResult.Row::getKey, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return new QueryResult(columns, rows);
+        }
+
+        private boolean matches(Order order) {
+            for (Filter filter : filters) {
+                if (!filter.test(order)) return false;
+            }
+            return true;
+        }
+
+        private double[] newState() {
+            double[] state = new double[aggregates.length * 4];
+            for (int i = 0; i < aggregates.length; i++) {
+                state[i * 4 + 2] = Double.POSITIVE_INFINITY;
+                state[i * 4 + 3] = Double.NEGATIVE_INFINITY;
+            }
+            return state;
+        }
+
+        private void accumulate(double[] state, Order order, OrderItem item) {
+            for (int i = 0; i < aggregates.length; i++) {
+                int base = i * 4;
+                if (aggregates[i].measure == null) {
+                    state[base]++;
+                    continue;
+                }
+                double value = measure(aggregates[i].measure, order, item);
+                if (Double.isNaN(value)) continue;
+                state[base]++;
+                state[base + 1] += value;
+                if (value < state[base + 2]) state[base + 2] = value;
+                if (value > state[base + 3]) state[base + 3] = value;
+            }
+        }
+
+        private double[] finish(double[] state) {
+            double[] values = new double[aggregates.length];
+            for (int i = 0; i < aggregates.length; i++) {
+                int base = i * 4;
+                Aggregate.Function function = aggregates[i].function;
+                if (state[base] == 0 && function != Aggregate.Function.COUNT && function != Aggregate.Function.SUM) {
+                    values[i] = Double.NaN;
+                    continue;
+                }
+                switch (function) {
+                    case COUNT: values[i] = state[base]; break;
+                    case SUM: values[i] = state[base + 1]; break;
+                    case AVG: values[i] = state[base + 1] / state[base]; break;
+                    case MIN: values[i] = state[base + 2]; break;
+                    default: values[i] = state[base + 3]; break;
+                }
+            }
+            return values;
+        }
+
+        private static double measure(Measure measure, Order order, OrderItem item) {
+            switch (measure) {
+                case ORDER_TOTAL: return Task.orderTotal(order);
+                case CUSTOMER_AGE: return order.getCustomer() == null ? Double.NaN : order.getCustomer().getAge();
+                case ITEM_REVENUE: return item.getPrice() * item.getQuantity();
+                case QUANTITY: return item.getQuantity();
+                default: return item.getPrice();
+            }
+        }
+
+        private String orderKey(Order order) {
+            Customer customer = order.getCustomer();
+            switch (groupKey) {
+                case STATUS: return order.getStatus() == null ? null : order.getStatus().name();
+                case CITY: return customer == null ? null : customer.getCity();
+                case CUSTOMER: return customer == null ? null : customer.getCustomerId();
+                case DAY: return order.getOrderDate() == null ? null : order.getOrderDate().toLocalDate().toString();
+                default: return QueryResult.ALL;
+            }
+        }
+
+        private String itemKey(OrderItem item) {
+            if (groupKey == GroupKey.CATEGORY) return item.getCategory() == null ? null : item.getCategory().name();
+            return item.getProductName();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder plan = new StringBuilder(access == null ? "Scan" : "IndexScan(" + access + ")");
+            for (Filter filter : filters) {
+                plan.append(" -> Filter(").append(filter).append(")");
+            }
+            plan.append(" -> Aggregate(").append(itemGrain ? "items" : "orders")
+                    .append(", groupBy=").append(groupKey)
+                    .append(", ").append(Arrays.toString(aggregates)).append(")");
+            return plan.toString();
+        }
+    }
+
+    private abstract static class Filter {
+        double selectivity;
+
+        abstract boolean test(Order order);
+    }
+
+    private abstract static class IndexFilter extends Filter {
+        private long postings = -1;
+
+        abstract Iterable<Order> scan(IndexedOrderList orders);
+
+        abstract long countPostings(IndexedOrderList orders);
+
+        long postings() {
+            return postings;
+        }
+
+        void estimate(IndexedOrderList indexed, int size, double fallback) {
+            if (indexed == null) {
+                selectivity = Math.min(1.0, fallback);
+            } else {
+                postings = countPostings(indexed);
+                selectivity = size == 0 ? 0 : (double) postings / size;
+            }
+        }
+    }
+
+    private static final class StatusFilter extends IndexFilter {
+        private final EnumSet<OrderStatus> statuses;
+
+        StatusFilter(EnumSet<OrderStatus> statuses, IndexedOrderList indexed, int size) {
+            this.statuses = statuses;
+            estimate(indexed, size, (double) statuses.size() / OrderStatus.values().length);
+        }
+
+        @Override
+        boolean test(Order order) {
+            return order.getStatus() != null && statuses.contains(order.getStatus());
+        }
+
+        @Override
+        Iterable<Order> scan(IndexedOrderList orders) {
+            List<Order> result = new ArrayList<>();
+            for (OrderStatus status : statuses) {
+                result.addAll(orders.byStatus(status));
+            }
+            return result;
+        }
+
+        @Override
+        long countPostings(IndexedOrderList orders) {
+            long count = 0;
+            for (OrderStatus status : statuses) {
+                count += orders.byStatus(status).size();
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "status IN " + statuses;
+        }
+    }
+
+    private static final class CategoryFilter extends IndexFilter {
+        private final EnumSet<Category> categories;
+
+        CategoryFilter(EnumSet<Category> categories, IndexedOrderList indexed, int size) {
+            this.categories = categories;
+            estimate(indexed, size, 2.0 * categories.size() / Category.values().length);
+        }
+
+        @Override
+        boolean test(Order order) {
+            if (order.getItems() == null) return false;
+            for (OrderItem item : order.getItems()) {
+                if (item != null && categories.contains(item.getCategory())) return true;
+            }
+            return false;
+        }
+
+        @Override
+        Iterable<Order> scan(IndexedOrderList orders) {
+            if (categories.size() == 1) return orders.byCategory(categories.iterator().next());
+            Set<Order> result = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Category category : categories) {
+                result.addAll(orders.byCategory(category));
+            }
+            return result;
+        }
+
+        @Override
+        long countPostings(IndexedOrderList orders) {
+            long count = 0;
+            for (Category category : categories) {
+                count += orders.byCategory(category).size();
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "category IN " + categories;
+        }
+    }
+
+    private static final class CityFilter extends IndexFilter {
+        private final Set<String> cities;
+
+        CityFilter(Set<String> cities, IndexedOrderList indexed, int size) {
+            this.cities = cities;
+            estimate(indexed, size, UNKNOWN_CITY_SELECTIVITY * cities.size());
+        }
+
+        @Override
+        boolean test(Order order) {
+            return order.getCustomer() != null && cities.contains(order.getCustomer().getCity());
+        }
+
+        @Override
+        Iterable<Order> scan(IndexedOrderList orders) {
+            List<Order> result = new ArrayList<>();
+            for (String city : cities) {
+                result.addAll(orders.byCity(city));
+            }
+            return result;
+        }
+
+        @Override
+        long countPostings(IndexedOrderList orders) {
+            long count = 0;
+            for (String city : cities) {
+                count += orders.byCity(city).size();
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "city IN " + new TreeSet<>(cities);
+        }
+    }
+
+    private static final class DateFilter extends Filter {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        DateFilter(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+            this.selectivity = DATE_RANGE_SELECTIVITY;
+        }
+
+        @Override
+        boolean test(Order order) {
+            LocalDateTime date = order.getOrderDate();
+            return date != null && (from == null || !date.isBefore(from)) && (to == null || date.isBefore(to));
+        }
+
+        @Override
+        public String toString() {
+            return "orderDate IN [" + from + ", " + to + ")";
+        }
+    }
+
+    private static final class AgeFilter extends Filter {
+        private final int min;
+        private final int max;
+
+        AgeFilter(int min, int max) {
+            this.min = min;
+            this.max = max;
+            this.selectivity = max < min ? 0 : Math.min(1.0, ((double) max - min + 1) / AGE_SPAN);
+        }
+
+        @Override
+        boolean test(Order order) {
+            Customer customer = order.getCustomer();
+            return customer != null && customer.getAge() >= min && customer.getAge() <= max;
+        }
+
+        @Override
+        public String toString() {
+            return "age IN [" + min + ", " + max + "]";
+        }
+    }
+}
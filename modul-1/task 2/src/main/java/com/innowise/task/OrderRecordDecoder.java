@@ -0,0 +1,128 @@
+package com.innowise.task;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.innowise.task.OrderBinaryFormat.*;
+
+/**
+ * Decodes record payloads for both readers, keeping the string dictionary and the
+ * customer table seen so far. Out-of-range references, ordinals and lengths are reported
+ * as an {@link IOException} rather than an unchecked exception.
+ */
+final class OrderRecordDecoder {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final List<String> strings = new ArrayList<>();
+    private final List<Customer> customers = new ArrayList<>();
+
+    /** Returns the decoded order, or {@code null} for dictionary and unknown records. */
+    Order decode(byte tag, ByteBuffer payload) throws IOException {
+        try {
+            switch (tag) {
+                case TAG_STRING:
+                    strings.add(readString(payload, payload.remaining()));
+                    return null;
+                case TAG_CUSTOMER:
+                    customers.add(readCustomer(payload));
+                    return null;
+                case TAG_ORDER:
+                    return readOrder(payload);
+                default:
+                    return null;
+            }
+        } catch (BufferUnderflowException e) {
+            throw corrupt("record shorter than its fields");
+        }
+    }
+
+    private Customer readCustomer(ByteBuffer in) throws IOException {
+        Customer customer = new Customer();
+        customer.setCustomerId(readInline(in));
+        customer.setName(readInline(in));
+        customer.setEmail(readInline(in));
+        customer.setRegisteredAt(readDate(in));
+        customer.setAge(in.getInt());
+        customer.setCity(string(in.getInt()));
+        return customer;
+    }
+
+    private Order readOrder(ByteBuffer in) throws IOException {
+        Order order = new Order();
+        order.setOrderId(readInline(in));
+        order.setOrderDate(readDate(in));
+        int customer = in.getInt();
+        if (customer != NULL_REF) {
+            if (customer < 0 || customer >= customers.size()) throw corrupt("unknown customer ref " + customer);
+            order.setCustomer(customers.get(customer));
+        }
+        byte status = in.get();
+        order.setStatus(status == NULL_ORDINAL ? null : ordinal(STATUSES, status));
+
+        int itemCount = in.getInt();
+        if (itemCount == NULL_ITEMS) return order;
+        if (itemCount < 0 || itemCount > in.remaining()) throw corrupt("item count " + itemCount);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            byte category = in.get();
+            if (category == NULL_ITEM) {
+                items.add(null);
+                continue;
+            }
+            OrderItem item = new OrderItem();
+            item.setCategory(category == NULL_ORDINAL ? null : ordinal(CATEGORIES, category));
+            item.setProductName(string(in.getInt()));
+            item.setQuantity(in.getInt());
+            item.setPrice(in.getDouble());
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    private String string(int code) throws IOException {
+        if (code == NULL_REF) return null;
+        if (code < 0 || code >= strings.size()) throw corrupt("unknown string ref " + code);
+        return strings.get(code);
+    }
+
+    private static String readInline(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length == NULL_REF) return null;
+        if (length < 0 || length > in.remaining()) throw corrupt("string length " + length);
+        return readString(in, length);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static <E> E ordinal(E[] values, byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) throw corrupt("ordinal " + ordinal);
+        return values[ordinal];
+    }
+
+    private static IOException corrupt(String detail) {
+        return new IOException("Corrupt order file: " + detail);
+    }
+
+    private static LocalDateTime readDate(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NULL_DATE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,42 @@
+package com.innowise.task;
+
+import java.util.*;
+
+public final class OrderReport {
+    private final Set<String> uniqueCities;
+    private final double totalIncomeForCompletedOrders;
+    private final OptionalDouble averageCheckForDeliveredOrders;
+    private final Optional<String> mostPopularProductBySales;
+    private final Map<String, Long> orderCountsByCustomer;
+    private final Map<String, Customer> customersById;
+
+    OrderReport(Set<String> uniqueCities,
+                double totalIncomeForCompletedOrders,
+                OptionalDouble averageCheckForDeliveredOrders,
+                Optional<String> mostPopularProductBySales,
+                Map<String, Long> orderCountsByCustomer,
+                Map<String, Customer> customersById) {
+        this.uniqueCities = Collections.unmodifiableSet(uniqueCities);
+        this.totalIncomeForCompletedOrders = totalIncomeForCompletedOrders;
+        this.averageCheckForDeliveredOrders = averageCheckForDeliveredOrders;
+        this.mostPopularProductBySales = mostPopularProductBySales;
+        this.orderCountsByCustomer = Collections.unmodifiableMap(orderCountsByCustomer);
+        this.customersById = customersById;
+    }
+
+    public Set<String> getUniqueCities() { return uniqueCities; }
+    public double getTotalIncomeForCompletedOrders() { return totalIncomeForCompletedOrders; }
+    public OptionalDouble getAverageCheckForDeliveredOrders() { return averageCheckForDeliveredOrders; }
+    public Optional<String> getMostPopularProductBySales() { return mostPopularProductBySales; }
+    public Map<String, Long> getOrderCountsByCustomer() { return orderCountsByCustomer; }
+
+    public Set<Customer> customersWithMoreThanNOrders(long n) {
+        Set<Customer> result = new LinkedHashSet<>();
+        for (Map.Entry<String, Long> entry : orderCountsByCustomer.entrySet()) {
+            if (entry.getValue() > n) {
+                result.add(customersById.get(entry.getKey()));
+            }
+        }
+        return result;
+    }
+}
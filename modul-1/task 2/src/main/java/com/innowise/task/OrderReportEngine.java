@@ -0,0 +1,120 @@
+package com.innowise.task;
+
+import java.util.*;
+
+/**
+ * Computes every {@link Task} metric in a single traversal of the orders.
+ * Each order's items are visited once: the same loop feeds the product tallies and the order total.
+ */
+public final class OrderReportEngine {
+
+    private OrderReportEngine() { }
+
+    public static OrderReport compute(List<Order> orders) {
+        Accumulator accumulator = new Accumulator();
+        if (orders != null) {
+            for (Order order : orders) {
+                accumulator.accept(order);
+            }
+        }
+        return accumulator.toReport();
+    }
+
+    static final class Accumulator {
+        private final Set<String> cities = new LinkedHashSet<>();
+        private final DoubleSummaryStatistics delivered = new DoubleSummaryStatistics();
+        private final Map<String, int[]> productQuantities = new HashMap<>();
+        private final Map<String, CustomerCount> customerCounts = new HashMap<>();
+
+        void accept(Order order) {
+            if (order == null) return;
+
+            Customer customer = order.getCustomer();
+            if (customer != null) {
+                if (customer.getCity() != null) {
+                    cities.add(customer.getCity());
+                }
+                CustomerCount count = customerCounts.get(customer.getCustomerId());
+                if (count == null) {
+                    customerCounts.put(customer.getCustomerId(), new CustomerCount(customer, 1));
+                } else {
+                    count.orders++;
+                }
+            }
+
+            double total = 0.0;
+            List<OrderItem> items = order.getItems();
+            if (items != null) {
+                for (OrderItem item : items) {
+                    if (item == null) continue;
+                    total += item.getPrice() * item.getQuantity();
+                    if (item.getProductName() == null) continue;
+                    int[] quantity = productQuantities.get(item.getProductName());
+                    if (quantity == null) {
+                        productQuantities.put(item.getProductName(), new int[]{item.getQuantity()});
+                    } else {
+                        quantity[0] += item.getQuantity();
+                    }
+                }
+            }
+
+            if (order.getStatus() == OrderStatus.DELIVERED) {
+                delivered.accept(total);
+            }
+        }
+
+        Accumulator combine(Accumulator other) {
+            cities.addAll(other.cities);
+            delivered.combine(other.delivered);
+            for (Map.Entry<String, int[]> entry : other.productQuantities.entrySet()) {
+                int[] quantity = productQuantities.get(entry.getKey());
+                if (quantity == null) productQuantities.put(entry.getKey(), entry.getValue());
+                else quantity[0] += entry.getValue()[0];
+            }
+            for (Map.Entry<String, CustomerCount> entry : other.customerCounts.entrySet()) {
+                CustomerCount count = customerCounts.get(entry.getKey());
+                if (count == null) customerCounts.put(entry.getKey(), entry.getValue());
+                else count.orders += entry.getValue().orders;
+            }
+            return this;
+        }
+
+        OrderReport toReport() {
+            String bestProduct = null;
+            int bestQuantity = 0;
+            for (Map.Entry<String, int[]> entry : productQuantities.entrySet()) {
+                int quantity = entry.getValue()[0];
+                if (bestProduct == null || quantity > bestQuantity
+                        || quantity == bestQuantity && entry.getKey().compareTo(bestProduct) < 0) {
+                    bestProduct = entry.getKey();
+                    bestQuantity = quantity;
+                }
+            }
+
+            Map<String, Long> orderCounts = new HashMap<>();
+            Map<String, Customer> customers = new HashMap<>();
+            for (Map.Entry<String, CustomerCount> entry : customerCounts.entrySet()) {
+                orderCounts.put(entry.getKey(), entry.getValue().orders);
+                customers.put(entry.getKey(), entry.getValue().customer);
+            }
+
+            return new OrderReport(
+                    new LinkedHashSet<>(cities),
+                    delivered.getSum(),
+                    delivered.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(delivered.getAverage()),
+                    Optional.ofNullable(bestProduct),
+                    orderCounts,
+                    customers);
+        }
+    }
+
+    private static final class CustomerCount {
+        final Customer customer;
+        long orders;
+
+        CustomerCount(Customer customer, long orders) {
+            this.customer = customer;
+            this.orders = orders;
+        }
+    }
+}
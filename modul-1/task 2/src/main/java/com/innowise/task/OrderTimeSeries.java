@@ -0,0 +1,221 @@
+package com.innowise.task;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Pre-aggregates orders into fixed-size time buckets keyed by {@code orderDate} (UTC).
+ * Each bucket keeps its order counts, delivered revenue and product tallies, so window
+ * queries merge only the buckets in range instead of rescanning orders. Statuses are taken
+ * as they are when {@link #add(Order)} is called; later transitions must be reported through
+ * {@link #statusChanged(Order, OrderStatus, OrderStatus)}. Orders without a date are skipped.
+ */
+public final class OrderTimeSeries {
+    private final long bucketMillis;
+    private final NavigableMap<Long, Bucket> buckets = new TreeMap<>();
+    private long skipped;
+
+    public OrderTimeSeries(Duration bucketSize) {
+        if (bucketSize == null || bucketSize.isNegative() || bucketSize.isZero()) {
+            throw new IllegalArgumentException("Bucket size must be positive");
+        }
+        this.bucketMillis = bucketSize.toMillis();
+        if (bucketMillis == 0) throw new IllegalArgumentException("Bucket size must be at least one millisecond");
+    }
+
+    public static OrderTimeSeries of(List<Order> orders, Duration bucketSize) {
+        OrderTimeSeries series = new OrderTimeSeries(bucketSize);
+        if (orders != null) {
+            for (Order order : orders) {
+                series.add(order);
+            }
+        }
+        return series;
+    }
+
+    public void add(Order order) {
+        if (order == null || order.getOrderDate() == null) {
+            skipped++;
+            return;
+        }
+        long key = Math.floorDiv(toMillis(order.getOrderDate()), bucketMillis);
+        buckets.computeIfAbsent(key, k -> new Bucket()).add(order);
+    }
+
+    public void statusChanged(Order order, OrderStatus from, OrderStatus to) {
+        if (order == null || order.getOrderDate() == null || from == to) return;
+        Bucket bucket = buckets.get(Math.floorDiv(toMillis(order.getOrderDate()), bucketMillis));
+        if (bucket == null) throw new IllegalArgumentException("Order was not added: " + order.getOrderId());
+        if (from == OrderStatus.DELIVERED) bucket.addDelivered(order, -1);
+        if (to == OrderStatus.DELIVERED) bucket.addDelivered(order, 1);
+    }
+
+    public WindowStats range(LocalDateTime from, LocalDateTime to) {
+        long start = bucketFloor(from);
+        long end = bucketCeil(to);
+        if (end < start) throw new IllegalArgumentException("Range end is before its start");
+        return merge(start, end);
+    }
+
+    public List<WindowStats> tumbling(LocalDateTime from, LocalDateTime to, Duration window) {
+        return sliding(from, to, window, window);
+    }
+
+    public List<WindowStats> sliding(LocalDateTime from, LocalDateTime to, Duration window, Duration step) {
+        long windowBuckets = bucketsIn(window);
+        long stepBuckets = bucketsIn(step);
+        long start = bucketFloor(from);
+        long end = bucketCeil(to);
+        if (end < start) throw new IllegalArgumentException("Range end is before its start");
+
+        List<WindowStats> result = new ArrayList<>();
+        for (long windowStart = start; windowStart < end; windowStart += stepBuckets) {
+            result.add(merge(windowStart, Math.min(windowStart + windowBuckets, end)));
+        }
+        return result;
+    }
+
+    public Optional<LocalDateTime> firstOrderBucket() {
+        return buckets.isEmpty() ? Optional.empty() : Optional.of(toDateTime(buckets.firstKey()));
+    }
+
+    public Optional<LocalDateTime> lastOrderBucket() {
+        return buckets.isEmpty() ? Optional.empty() : Optional.of(toDateTime(buckets.lastKey()));
+    }
+
+    public Duration bucketSize() {
+        return Duration.ofMillis(bucketMillis);
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    public long skippedOrders() {
+        return skipped;
+    }
+
+    private WindowStats merge(long startBucket, long endBucket) {
+        long orders = 0;
+        long delivered = 0;
+        double revenue = 0.0;
+        Map<String, Long> products = new HashMap<>();
+        for (Bucket bucket : buckets.subMap(startBucket, true, endBucket, false).values()) {
+            orders += bucket.orders;
+            delivered += bucket.delivered;
+            revenue += bucket.deliveredRevenue;
+            for (Map.Entry<String, long[]> entry : bucket.products.entrySet()) {
+                products.merge(entry.getKey(), entry.getValue()[0], Long::sum);
+            }
+        }
+        return new WindowStats(toDateTime(startBucket), toDateTime(endBucket), orders, delivered, revenue, products);
+    }
+
+    private long bucketsIn(Duration duration) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Window duration must be positive");
+        }
+        long millis = duration.toMillis();
+        if (millis % bucketMillis != 0) {
+            throw new IllegalArgumentException("Window duration must be a multiple of the bucket size");
+        }
+        return millis / bucketMillis;
+    }
+
+    private long bucketFloor(LocalDateTime time) {
+        return Math.floorDiv(toMillis(Objects.requireNonNull(time, "time")), bucketMillis);
+    }
+
+    private long bucketCeil(LocalDateTime time) {
+        return -Math.floorDiv(-toMillis(Objects.requireNonNull(time, "time")), bucketMillis);
+    }
+
+    private LocalDateTime toDateTime(long bucket) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket * bucketMillis), ZoneOffset.UTC);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static final class Bucket {
+        long orders;
+        long delivered;
+        double deliveredRevenue;
+        final Map<String, long[]> products = new HashMap<>();
+
+        void add(Order order) {
+            orders++;
+            if (order.getStatus() == OrderStatus.DELIVERED) addDelivered(order, 1);
+            if (order.getItems() == null) return;
+            for (OrderItem item : order.getItems()) {
+                if (item != null && item.getProductName() != null) {
+                    products.computeIfAbsent(item.getProductName(), name -> new long[1])[0] += item.getQuantity();
+                }
+            }
+        }
+
+        void addDelivered(Order order, int sign) {
+            if (sign < 0 && delivered == 0) {
+                throw new IllegalArgumentException("No delivered orders in bucket of " + order.getOrderId());
+            }
+            delivered += sign;
+            deliveredRevenue = delivered == 0 ? 0.0 : deliveredRevenue + sign * Task.orderTotal(order);
+        }
+    }
+
+    public static final class WindowStats {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long orderCount;
+        private final long deliveredCount;
+        private final double deliveredRevenue;
+        private final Map<String, Long> productQuantities;
+
+        WindowStats(LocalDateTime start, LocalDateTime end, long orderCount, long deliveredCount,
+                    double deliveredRevenue, Map<String, Long> productQuantities) {
+            this.start = start;
+            this.end = end;
+            this.orderCount = orderCount;
+            this.deliveredCount = deliveredCount;
+            this.deliveredRevenue = deliveredRevenue;
+            this.productQuantities = Collections.unmodifiableMap(productQuantities);
+        }
+
+        public LocalDateTime getStart() { return start; }
+        public LocalDateTime getEnd() { return end; }
+        public long getOrderCount() { return orderCount; }
+        public long getDeliveredCount() { return deliveredCount; }
+        public double getDeliveredRevenue() { return deliveredRevenue; }
+        public Map<String, Long> getProductQuantities() { return productQuantities; }
+
+        public OptionalDouble averageCheckForDeliveredOrders() {
+            return deliveredCount == 0 ? OptionalDouble.empty() : OptionalDouble.of(deliveredRevenue / deliveredCount);
+        }
+
+        public Optional<String> mostPopularProduct() {
+            List<ProductSales> top = topProducts(1);
+            return top.isEmpty() ? Optional.empty() : Optional.of(top.get(0).getProductName());
+        }
+
+        public List<ProductSales> topProducts(int k) {
+            if (k < 0) throw new IllegalArgumentException("k must not be negative");
+            List<ProductSales> result = new ArrayList<>(productQuantities.size());
+            for (Map.Entry<String, Long> entry : productQuantities.entrySet()) {
+                result.add(new ProductSales(entry.getKey(), entry.getValue(), 0));
+            }
+            result.sort(Comparator.comparingLong(ProductSales::getQuantity).reversed()
+                    .thenComparing(ProductSales::getProductName));
+            return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + ") orders=" + orderCount + " delivered=" + deliveredCount
+                    + " revenue=" + deliveredRevenue;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.innowise.task;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel versions of the {@link Task} reports, executed in a configurable {@link ForkJoinPool}.
+ * Delivered-order sums are reduced over fixed-size chunks and the chunk results are combined
+ * sequentially, so the floating-point result does not depend on the pool parallelism. Customer
+ * tallies are merged the same way, keeping the first {@link Customer} instance in list order.
+ * Lists without {@link RandomAccess} are copied once before chunking.
+ */
+public final class ParallelTask {
+    static final int SUM_CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+
+    public ParallelTask() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelTask(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public Set<String> uniqueCities(List<Order> orders) {
+        if (orders == null) return new LinkedHashSet<>();
+        return execute(() -> orders.parallelStream()
+                .map(Order::getCustomer)
+                .filter(Objects::nonNull)
+                .map(Customer::getCity)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    public double totalIncomeForCompletedOrders(List<Order> orders) {
+        return deliveredStatistics(orders).getSum();
+    }
+
+    public OptionalDouble averageCheckForDeliveredOrders(List<Order> orders) {
+        DoubleSummaryStatistics statistics = deliveredStatistics(orders);
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    public Optional<String> mostPopularProductBySales(List<Order> orders) {
+        if (orders == null) return Optional.empty();
+        ConcurrentMap<String, Integer> quantities = execute(() -> orders.parallelStream()
+                .map(Order::getItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingByConcurrent(
+                        OrderItem::getProductName,
+                        Collectors.summingInt(OrderItem::getQuantity)
+                )));
+
+        return quantities.entrySet()
+                .stream()
+                .max(Map.Entry.<String, Integer>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey);
+    }
+
+    public Set<Customer> customersWithMoreThanNOrders(List<Order> orders, long n) {
+        if (orders == null || orders.isEmpty()) return Collections.emptySet();
+        List<Order> source = randomAccess(orders);
+        List<Map<String, CustomerTally>> partial = execute(() -> IntStream.range(0, chunkCount(source))
+                .parallel()
+                .mapToObj(chunk -> {
+                    Map<String, CustomerTally> tallies = new LinkedHashMap<>();
+                    for (Order order : chunk(source, chunk)) {
+                        Customer customer = order.getCustomer();
+                        if (customer == null) continue;
+                        tallies.computeIfAbsent(customer.getCustomerId(), id -> new CustomerTally(customer)).orders++;
+                    }
+                    return tallies;
+                })
+                .collect(Collectors.toList()));
+
+        Map<String, CustomerTally> tallies = new LinkedHashMap<>();
+        for (Map<String, CustomerTally> chunk : partial) {
+            for (Map.Entry<String, CustomerTally> entry : chunk.entrySet()) {
+                tallies.merge(entry.getKey(), entry.getValue(), (first, next) -> {
+                    first.orders += next.orders;
+                    return first;
+                });
+            }
+        }
+
+        Set<Customer> result = new LinkedHashSet<>();
+        for (CustomerTally tally : tallies.values()) {
+            if (tally.orders > n) result.add(tally.customer);
+        }
+        return result;
+    }
+
+    public OrderReport report(List<Order> orders) {
+        if (orders == null) return OrderReportEngine.compute(null);
+        return execute(() -> orders.parallelStream().collect(Collector.of(
+                OrderReportEngine.Accumulator::new,
+                OrderReportEngine.Accumulator::accept,
+                OrderReportEngine.Accumulator::combine,
+                OrderReportEngine.Accumulator::toReport)));
+    }
+
+    private DoubleSummaryStatistics deliveredStatistics(List<Order> orders) {
+        DoubleSummaryStatistics total = new DoubleSummaryStatistics();
+        if (orders == null || orders.isEmpty()) return total;
+
+        List<Order> source = randomAccess(orders);
+        DoubleSummaryStatistics[] partial = execute(() -> IntStream.range(0, chunkCount(source))
+                .parallel()
+                .mapToObj(chunk -> {
+                    DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+                    for (Order order : chunk(source, chunk)) {
+                        if (order.getStatus() == OrderStatus.DELIVERED) {
+                            statistics.accept(Task.orderTotal(order));
+                        }
+                    }
+                    return statistics;
+                })
+                .toArray(DoubleSummaryStatistics[]::new));
+
+        for (DoubleSummaryStatistics statistics : partial) {
+            total.combine(statistics);
+        }
+        return total;
+    }
+
+    private static List<Order> randomAccess(List<Order> orders) {
+        return orders instanceof RandomAccess ? orders : new ArrayList<>(orders);
+    }
+
+    private static int chunkCount(List<Order> orders) {
+        return (orders.size() + SUM_CHUNK_SIZE - 1) / SUM_CHUNK_SIZE;
+    }
+
+    private static List<Order> chunk(List<Order> orders, int chunk) {
+        return orders.subList(chunk * SUM_CHUNK_SIZE, Math.min(orders.size(), (chunk + 1) * SUM_CHUNK_SIZE));
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        return pool.submit(task::get).join();
+    }
+
+    private static final class CustomerTally {
+        final Customer customer;
+        long orders;
+
+        CustomerTally(Customer customer) {
+            this.customer = customer;
+        }
+    }
+}
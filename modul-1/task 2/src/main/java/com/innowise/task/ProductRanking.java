@@ -0,0 +1,51 @@
+package com.innowise.task;
+
+import java.util.*;
+
+public final class ProductRanking {
+    private static final Comparator<ProductSales> ASCENDING = Comparator
+            .comparingLong(ProductSales::getQuantity)
+            .thenComparing(ProductSales::getProductName, Comparator.reverseOrder());
+
+    private ProductRanking() { }
+
+    public static List<ProductSales> topProductsBySales(List<Order> orders, int k) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative");
+        if (orders == null || k == 0) return Collections.emptyList();
+
+        Map<String, long[]> quantities = new HashMap<>();
+        for (Order order : orders) {
+            if (order == null || order.getItems() == null) continue;
+            for (OrderItem item : order.getItems()) {
+                if (item == null || item.getProductName() == null) continue;
+                quantities.computeIfAbsent(item.getProductName(), name -> new long[1])[0] += item.getQuantity();
+            }
+        }
+
+        PriorityQueue<ProductSales> heap = new PriorityQueue<>(Math.min(k, Math.max(1, quantities.size())) + 1, ASCENDING);
+        for (Map.Entry<String, long[]> entry : quantities.entrySet()) {
+            ProductSales candidate = new ProductSales(entry.getKey(), entry.getValue()[0], 0);
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (ASCENDING.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<ProductSales> result = new ArrayList<>(heap);
+        result.sort(ASCENDING.reversed());
+        return result;
+    }
+
+    public static List<ProductSales> approximateTopProductsBySales(List<Order> orders, int k, int capacity) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative");
+        SpaceSavingCounter counter = new SpaceSavingCounter(capacity);
+        if (orders != null) {
+            for (Order order : orders) {
+                counter.offer(order);
+            }
+        }
+        return counter.top(k);
+    }
+}
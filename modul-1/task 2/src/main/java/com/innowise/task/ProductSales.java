@@ -0,0 +1,38 @@
+package com.innowise.task;
+
+import java.util.Objects;
+
+public final class ProductSales {
+    private final String productName;
+    private final long quantity;
+    private final long maxError;
+
+    public ProductSales(String productName, long quantity, long maxError) {
+        this.productName = productName;
+        this.quantity = quantity;
+        this.maxError = maxError;
+    }
+
+    public String getProductName() { return productName; }
+    public long getQuantity() { return quantity; }
+    public long getMaxError() { return maxError; }
+    public long getGuaranteedQuantity() { return quantity - maxError; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProductSales)) return false;
+        ProductSales that = (ProductSales) o;
+        return quantity == that.quantity && maxError == that.maxError && Objects.equals(productName, that.productName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productName, quantity, maxError);
+    }
+
+    @Override
+    public String toString() {
+        return productName + "=" + quantity + (maxError > 0 ? "(±" + maxError + ")" : "");
+    }
+}
@@ -0,0 +1,53 @@
+package com.innowise.task;
+
+import java.util.*;
+
+/**
+ * Rows produced by an {@link OrderQuery}, sorted by group key. Each row holds one value per
+ * aggregate column, in the order the aggregates were requested.
+ */
+public final class QueryResult {
+    public static final String ALL = "ALL";
+
+    private final List<String> columns;
+    private final List<Row> rows;
+
+    QueryResult(List<String> columns, List<Row> rows) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public List<String> getColumns() { return columns; }
+    public List<Row> getRows() { return rows; }
+
+    public Optional<Row> row(String key) {
+        for (Row row : rows) {
+            if (Objects.equals(row.key, key)) return Optional.of(row);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return columns + " " + rows;
+    }
+
+    public static final class Row {
+        private final String key;
+        private final double[] values;
+
+        Row(String key, double[] values) {
+            this.key = key;
+            this.values = values;
+        }
+
+        public String getKey() { return key; }
+        public double get(int column) { return values[column]; }
+        public double[] getValues() { return values.clone(); }
+
+        @Override
+        public String toString() {
+            return key + "=" + Arrays.toString(values);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.innowise.task;
+
+import java.util.*;
+
+/**
+ * Weighted Space-Saving sketch for heavy hitters. Tracks at most {@code capacity} products;
+ * a reported quantity overestimates the true one by at most its {@code maxError}, which is
+ * itself bounded by {@code totalWeight / capacity}. Any product whose true quantity exceeds
+ * that bound is guaranteed to be tracked.
+ */
+public final class SpaceSavingCounter {
+    private static final Comparator<Counter> BY_COUNT = Comparator
+            .comparingLong((Counter counter) -> counter.count)
+            .thenComparingLong(counter -> counter.sequence);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+    private long totalWeight;
+    private long sequence;
+
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(String product, long weight) {
+        if (product == null) return;
+        if (weight < 0) throw new IllegalArgumentException("Weight must not be negative");
+        totalWeight += weight;
+
+        Counter counter = counters.get(product);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += weight;
+            counter.sequence = sequence++;
+            ordered.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(product, weight, 0, sequence++);
+        } else {
+            Counter min = ordered.pollFirst();
+            counters.remove(min.product);
+            counter = new Counter(product, min.count + weight, min.count, sequence++);
+        }
+        counters.put(product, counter);
+        ordered.add(counter);
+    }
+
+    public void offer(Order order) {
+        if (order == null || order.getItems() == null) return;
+        for (OrderItem item : order.getItems()) {
+            if (item != null) offer(item.getProductName(), item.getQuantity());
+        }
+    }
+
+    public List<ProductSales> top(int k) {
+        List<ProductSales> result = new ArrayList<>(Math.min(k, counters.size()));
+        Iterator<Counter> it = ordered.descendingIterator();
+        while (it.hasNext() && result.size() < k) {
+            Counter counter = it.next();
+            result.add(new ProductSales(counter.product, counter.count, counter.error));
+        }
+        return result;
+    }
+
+    public long errorBound() {
+        return totalWeight / capacity;
+    }
+
+    public long totalWeight() {
+        return totalWeight;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static final class Counter {
+        final String product;
+        long count;
+        final long error;
+        long sequence;
+
+        Counter(String product, long count, long error, long sequence) {
+            this.product = product;
+            this.count = count;
+            this.error = error;
+            this.sequence = sequence;
+        }
+    }
+}
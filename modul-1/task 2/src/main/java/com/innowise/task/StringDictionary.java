@@ -0,0 +1,49 @@
+package com.innowise.task;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns dense int codes to strings in first-seen order.
+ */
+public final class StringDictionary {
+    public static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[16];
+    private int size;
+
+    public int encode(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = codes.get(value);
+        if (code != null) return code;
+
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size] = value;
+        codes.put(value, size);
+        return size++;
+    }
+
+    public int codeOf(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = codes.get(value);
+        return code == null ? NULL_CODE : code;
+    }
+
+    public String decode(int code) {
+        if (code == NULL_CODE) return null;
+        if (code < 0 || code >= size) throw new IndexOutOfBoundsException();
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<String> values() {
+        return Collections.unmodifiableList(Arrays.asList(values).subList(0, size));
+    }
+}
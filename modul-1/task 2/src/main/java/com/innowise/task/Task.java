@@ -1,13 +1,16 @@
 package com.innowise.task;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class Task {
 
     private Task() { }
 
     public static Set<String> uniqueCities(List<Order> orders) {
+        if (orders instanceof IndexedOrderList) return indexedUniqueCities((IndexedOrderList) orders);
         return Optional.ofNullable(orders)
                 .orElse(Collections.emptyList())
                 .stream()
@@ -18,15 +21,46 @@ public final class Task {
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    public static long approximateUniqueCities(List<Order> orders) {
+        return uniqueCitiesSketch(orders, HyperLogLog.DEFAULT_PRECISION).estimate();
+    }
+
+    public static HyperLogLog uniqueCitiesSketch(List<Order> orders, int precision) {
+        return customerSketch(orders, precision, Customer::getCity);
+    }
+
+    public static long approximateDistinctCustomers(List<Order> orders) {
+        return distinctCustomersSketch(orders, HyperLogLog.DEFAULT_PRECISION).estimate();
+    }
+
+    public static HyperLogLog distinctCustomersSketch(List<Order> orders, int precision) {
+        return customerSketch(orders, precision, Customer::getCustomerId);
+    }
+
+    public static long approximateDistinctEmails(List<Order> orders) {
+        return distinctEmailsSketch(orders, HyperLogLog.DEFAULT_PRECISION).estimate();
+    }
+
+    public static HyperLogLog distinctEmailsSketch(List<Order> orders, int precision) {
+        return customerSketch(orders, precision, Customer::getEmail);
+    }
+
     public static double totalIncomeForCompletedOrders(List<Order> orders) {
-        return Optional.ofNullable(orders)
-                .orElse(Collections.emptyList())
-                .stream()
-                .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+        return deliveredOrders(orders)
                 .mapToDouble(Task::orderTotal)
                 .sum();
     }
 
+    public static long totalIncomeForCompletedOrdersInCents(List<Order> orders) {
+        long total = 0;
+        for (Order order : deliveredSource(orders)) {
+            if (order != null && order.getStatus() == OrderStatus.DELIVERED) {
+                total = Math.addExact(total, orderTotalInCents(order));
+            }
+        }
+        return total;
+    }
+
     public static Optional<String> mostPopularProductBySales(List<Order> orders) {
         return Optional.ofNullable(orders)
                 .orElse(Collections.emptyList())
@@ -41,46 +75,38 @@ public final class Task {
                 ))
                 .entrySet()
                 .stream()
-                .max(Map.Entry.comparingByValue())
+                .max(Map.Entry.<String, Integer>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
                 .map(Map.Entry::getKey);
     }
 
     public static OptionalDouble averageCheckForDeliveredOrders(List<Order> orders) {
-        return Optional.ofNullable(orders)
-                .orElse(Collections.emptyList())
-                .stream()
-                .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+        return deliveredOrders(orders)
                 .mapToDouble(Task::orderTotal)
                 .average();
     }
 
-    public static Set<Customer> customersWithMoreThanNOrders(List<Order> orders, long n) {
-        if (orders == null) return Collections.emptySet();
-
-        Map<String, Long> orderCounts = orders.stream()
-                .map(Order::getCustomer)
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(
-                        Customer::getCustomerId,
-                        Collectors.counting()
-                ));
+    public static OptionalLong averageCheckForDeliveredOrdersInCents(List<Order> orders) {
+        long total = 0;
+        long count = 0;
+        for (Order order : deliveredSource(orders)) {
+            if (order != null && order.getStatus() == OrderStatus.DELIVERED) {
+                total = Math.addExact(total, orderTotalInCents(order));
+                count++;
+            }
+        }
+        if (count == 0) return OptionalLong.empty();
 
-        Map<String, Customer> customerMap = orders.stream()
-                .map(Order::getCustomer)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(
-                        Customer::getCustomerId,
-                        customer -> customer,
-                        (existing, replacement) -> existing
-                ));
+        long average = total / count;
+        long remainder = total % count;
+        if (Math.abs(remainder) * 2 >= count) average += Long.signum(total);
+        return OptionalLong.of(average);
+    }
 
-        return orderCounts.entrySet()
-                .stream()
-                .filter(entry -> entry.getValue() > n)
-                .map(Map.Entry::getKey)
-                .map(customerMap::get)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+    public static Set<Customer> customersWithMoreThanNOrders(List<Order> orders, long n) {
+        if (orders == null) return Collections.emptySet();
+        if (usePostings(orders)) return indexedCustomersWithMoreThanNOrders((IndexedOrderList) orders, n);
+        return CustomerOrderCounter.customersWithMoreThanNOrders(orders, n);
     }
 
     public static double orderTotal(Order order) {
@@ -91,4 +117,69 @@ public final class Task {
                 .mapToDouble(item -> item.getPrice() * item.getQuantity())
                 .sum();
     }
-}
\ No newline at end of file
+
+    public static long orderTotalInCents(Order order) {
+        if (order == null || order.getItems() == null) return 0L;
+        long total = 0;
+        for (OrderItem item : order.getItems()) {
+            if (item != null) total = Math.addExact(total, Math.multiplyExact(item.getPriceCents(), (long) item.getQuantity()));
+        }
+        return total;
+    }
+
+    private static Collection<Order> deliveredSource(List<Order> orders) {
+        if (orders == null) return Collections.emptyList();
+        if (usePostings(orders)) return ((IndexedOrderList) orders).byStatus(OrderStatus.DELIVERED);
+        return orders;
+    }
+
+    private static boolean usePostings(List<Order> orders) {
+        return orders instanceof IndexedOrderList && !((IndexedOrderList) orders).hasDuplicates();
+    }
+
+    private static Stream<Order> deliveredOrders(List<Order> orders) {
+        return deliveredSource(orders)
+                .stream()
+                .filter(order -> order.getStatus() == OrderStatus.DELIVERED);
+    }
+
+    private static Set<String> indexedUniqueCities(IndexedOrderList orders) {
+        int cityCount = orders.indexedCities().size();
+        Set<String> cities = new LinkedHashSet<>();
+        for (Order order : orders) {
+            if (cities.size() == cityCount) break;
+            Customer customer = order == null ? null : order.getCustomer();
+            if (customer != null && customer.getCity() != null) cities.add(customer.getCity());
+        }
+        return cities;
+    }
+
+    private static Set<Customer> indexedCustomersWithMoreThanNOrders(IndexedOrderList orders, long n) {
+        long emitAt = Math.max(n, 0) + 1;
+        Map<String, long[]> counts = new HashMap<>();
+        for (String customerId : orders.indexedCustomerIds()) {
+            if (orders.byCustomer(customerId).size() >= emitAt) counts.put(customerId, new long[1]);
+        }
+
+        Map<String, Customer> firstSeen = new HashMap<>();
+        Set<Customer> result = new LinkedHashSet<>();
+        for (Order order : orders) {
+            if (result.size() == counts.size()) break;
+            Customer customer = order == null ? null : order.getCustomer();
+            long[] count = customer == null ? null : counts.get(customer.getCustomerId());
+            if (count == null) continue;
+            firstSeen.putIfAbsent(customer.getCustomerId(), customer);
+            if (++count[0] == emitAt) result.add(firstSeen.get(customer.getCustomerId()));
+        }
+        return result;
+    }
+
+    private static HyperLogLog customerSketch(List<Order> orders, int precision, Function<Customer, String> key) {
+        HyperLogLog sketch = new HyperLogLog(precision);
+        if (orders == null) return sketch;
+        for (Order order : orders) {
+            if (order != null && order.getCustomer() != null) sketch.add(key.apply(order.getCustomer()));
+        }
+        return sketch;
+    }
+}
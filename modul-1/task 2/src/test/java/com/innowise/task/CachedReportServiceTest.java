@@ -0,0 +1,82 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedReportServiceTest {
+
+    @Test
+    @DisplayName("Repeated reads should hit the cache and match Task")
+    void repeatedReads_Hit() {
+        List<Order> orders = TestOrders.random(2000, 51);
+        CachedReportService service = new CachedReportService(orders);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Task.totalIncomeForCompletedOrders(orders), service.totalIncomeForCompletedOrders(), 1e-6);
+            assertEquals(Task.mostPopularProductBySales(orders), service.mostPopularProductBySales());
+            assertEquals(Task.averageCheckForDeliveredOrders(orders).orElseThrow(),
+                    service.averageCheckForDeliveredOrders().orElseThrow(), 1e-9);
+            assertEquals(Task.uniqueCities(orders), service.uniqueCities());
+            assertEquals(Task.customersWithMoreThanNOrders(orders, 5), service.customersWithMoreThanNOrders(5));
+            assertEquals(Task.customersWithMoreThanNOrders(orders, 8), service.customersWithMoreThanNOrders(8));
+        }
+
+        assertEquals(6, service.missCount());
+        assertEquals(12, service.hitCount());
+        assertEquals(6, service.cachedEntries());
+        assertThrows(UnsupportedOperationException.class, () -> service.uniqueCities().add("x"));
+    }
+
+    @Test
+    @DisplayName("Adding orders and changing status should invalidate results")
+    void mutations_Invalidate() {
+        Customer alice = customer("C1", "Alice", "Minsk");
+        CachedReportService service = new CachedReportService(List.of(
+                order("O1", alice, OrderStatus.DELIVERED, item("Book", 1, 10.0, Category.BOOKS)),
+                order("O2", alice, OrderStatus.NEW, item("Lamp", 1, 30.0, Category.HOME))));
+
+        assertEquals(10.0, service.totalIncomeForCompletedOrders(), 1e-9);
+        assertEquals(0, service.version());
+
+        service.updateStatus("O2", OrderStatus.DELIVERED);
+        assertEquals(1, service.version());
+        assertEquals(0, service.cachedEntries());
+        assertEquals(40.0, service.totalIncomeForCompletedOrders(), 1e-9);
+
+        service.updateStatus("O2", OrderStatus.DELIVERED);
+        assertEquals(1, service.version());
+
+        service.addOrder(order("O3", customer("C2", "Bob", "Brest"), OrderStatus.DELIVERED, item("Sofa", 1, 300.0, Category.HOME)));
+        assertEquals(2, service.version());
+        assertEquals(Set.of("Minsk", "Brest"), service.uniqueCities());
+        assertEquals(OptionalDouble.of(340.0 / 3), service.averageCheckForDeliveredOrders());
+        assertEquals(3, service.orders().size());
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus("missing", OrderStatus.NEW));
+        assertThrows(IllegalArgumentException.class, () -> service.addOrder(order("O1", alice, OrderStatus.NEW)));
+    }
+
+    @Test
+    @DisplayName("Cache should evict the least recently used entry")
+    void lruEviction() {
+        CachedReportService service = new CachedReportService(TestOrders.random(500, 52), 3);
+        service.customersWithMoreThanNOrders(1);
+        service.customersWithMoreThanNOrders(2);
+        service.customersWithMoreThanNOrders(3);
+        service.customersWithMoreThanNOrders(1);
+        service.customersWithMoreThanNOrders(4);
+
+        assertEquals(3, service.cachedEntries());
+        long misses = service.missCount();
+        service.customersWithMoreThanNOrders(1);
+        assertEquals(misses, service.missCount());
+        service.customersWithMoreThanNOrders(2);
+        assertEquals(misses + 1, service.missCount());
+        assertThrows(IllegalArgumentException.class, () -> new CachedReportService(List.of(), 0));
+    }
+}
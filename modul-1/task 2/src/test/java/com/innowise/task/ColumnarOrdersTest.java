@@ -0,0 +1,83 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarOrdersTest {
+
+    @Test
+    @DisplayName("Columnar queries should match Task")
+    void queries_MatchTask() {
+        List<Order> orders = TestOrders.random(3000, 5);
+
+        ColumnarOrders columns = ColumnarOrders.from(orders);
+
+        assertEquals(List.copyOf(Task.uniqueCities(orders)), List.copyOf(columns.uniqueCities()));
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), columns.totalIncomeForCompletedOrders(), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(orders).getAsDouble(),
+                columns.averageCheckForDeliveredOrders().getAsDouble(), 1e-9);
+        assertEquals(Task.mostPopularProductBySales(orders), columns.mostPopularProductBySales());
+        assertEquals(Task.customersWithMoreThanNOrders(orders, 5), columns.customersWithMoreThanNOrders(5));
+    }
+
+    @Test
+    @DisplayName("Product ties should resolve to the smallest name, as in Task")
+    void productTies_MatchTask() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        List<Order> orders = Arrays.asList(
+                order("O1", c, OrderStatus.NEW, item("Zed", 2, 10.0, Category.BOOKS)),
+                order("O2", c, OrderStatus.NEW, item("Abe", 1, 10.0, Category.BOOKS), item("Abe", 1, 10.0, Category.BOOKS)));
+
+        assertEquals(Optional.of("Abe"), ColumnarOrders.from(orders).mostPopularProductBySales());
+        assertEquals(Task.mostPopularProductBySales(orders), ColumnarOrders.from(orders).mostPopularProductBySales());
+    }
+
+    @Test
+    @DisplayName("Columns should decode back to original values")
+    void columns_DecodeOriginalValues() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        Order o1 = order("O1", c, OrderStatus.SHIPPED,
+                item("Book", 2, 10.0, Category.BOOKS), item("Lamp", 1, 25.0, Category.HOME));
+        Order o2 = order("O2", null, null, item(null, 3, 1.0, null));
+        o2.setOrderDate(null);
+
+        ColumnarOrders columns = ColumnarOrders.from(Arrays.asList(o1, o2, null));
+
+        assertEquals(3, columns.orderCount());
+        assertEquals(3, columns.itemCount());
+        assertEquals(1, columns.customerCount());
+        assertEquals(BASE_TIME.toInstant(ZoneOffset.UTC).toEpochMilli(), columns.orderDate(0));
+        assertEquals(OrderStatus.SHIPPED, columns.status(0));
+        assertSame(c, columns.customer(0));
+        assertEquals("Minsk", columns.city(0));
+        assertEquals(45.0, columns.orderTotal(0), 1e-9);
+        assertEquals("Lamp", columns.productName(columns.firstItem(0) + 1));
+        assertEquals(Category.HOME, columns.category(1));
+
+        assertEquals(ColumnarOrders.NULL_DATE, columns.orderDate(1));
+        assertNull(columns.status(1));
+        assertNull(columns.customer(1));
+        assertNull(columns.productName(2));
+        assertNull(columns.category(2));
+        assertEquals(columns.firstItem(2), columns.endItem(2));
+    }
+
+    @Test
+    @DisplayName("Null list should produce empty columns")
+    void nullList_EmptyColumns() {
+        ColumnarOrders columns = ColumnarOrders.from(null);
+
+        assertEquals(0, columns.orderCount());
+        assertTrue(columns.uniqueCities().isEmpty());
+        assertFalse(columns.mostPopularProductBySales().isPresent());
+        assertFalse(columns.averageCheckForDeliveredOrders().isPresent());
+    }
+}
@@ -0,0 +1,76 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerOrderCounterTest {
+
+    private static Set<String> expectedIds(List<Order> orders, long n) {
+        return orders.stream()
+                .collect(Collectors.groupingBy(o -> o.getCustomer().getCustomerId(), Collectors.counting()))
+                .entrySet().stream()
+                .filter(e -> e.getValue() > n)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("Single pass should match a grouping count across thresholds")
+    void matchesGroupingCount() {
+        List<Order> orders = TestOrders.random(20000, 31);
+        for (long n : new long[] {-1, 0, 3, 5, 8, 1000}) {
+            Set<String> actual = Task.customersWithMoreThanNOrders(orders, n).stream()
+                    .map(Customer::getCustomerId)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedIds(orders, n), actual, "n=" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming variant should emit each customer once, when it crosses the threshold")
+    void streaming_EmitsOnCrossing() {
+        Customer alice = customer("C1", "Alice", "Minsk");
+        Customer aliceCopy = customer("C1", "Alice v2", "Minsk");
+        Customer bob = customer("C2", "Bob", "Brest");
+        List<Order> orders = Arrays.asList(
+                order("O1", alice, OrderStatus.NEW),
+                order("O2", bob, OrderStatus.NEW),
+                order("O3", aliceCopy, OrderStatus.NEW),
+                null,
+                order("O4", null, OrderStatus.NEW),
+                order("O5", alice, OrderStatus.NEW),
+                order("O6", bob, OrderStatus.NEW));
+
+        List<Customer> emitted = new ArrayList<>();
+        CustomerOrderCounter counter = new CustomerOrderCounter(1, emitted::add);
+        List<Boolean> crossings = new ArrayList<>();
+        for (Order order : orders) {
+            crossings.add(counter.accept(order));
+        }
+
+        assertEquals(List.of(alice, bob), emitted);
+        assertEquals(List.of(false, false, true, false, false, false, true), crossings);
+        assertEquals(3, counter.count("C1"));
+        assertEquals(0, counter.count("missing"));
+        assertEquals(2, counter.customerCount());
+    }
+
+    @Test
+    @DisplayName("Table should grow past its initial capacity")
+    void grows() {
+        List<Order> orders = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                orders.add(order("O" + round + "_" + i, customer("C" + i, "N" + i, "City"), OrderStatus.NEW));
+            }
+        }
+        assertEquals(1000, CustomerOrderCounter.customersWithMoreThanNOrders(orders, 2).size());
+        assertTrue(CustomerOrderCounter.customersWithMoreThanNOrders(orders, 3).isEmpty());
+    }
+}
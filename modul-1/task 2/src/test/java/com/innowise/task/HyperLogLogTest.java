@@ -0,0 +1,85 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Estimate should stay within three standard errors")
+    void estimate_WithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        int distinct = 200000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add("customer-" + i);
+            sketch.add("customer-" + (i / 2));
+        }
+
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * sketch.standardError(), "relative error " + error);
+        assertEquals(4096, sketch.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Small cardinalities should be counted almost exactly")
+    void estimate_SmallRange() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertEquals(0, sketch.estimate());
+        for (String city : List.of("Minsk", "Brest", "Grodno", "Minsk", "Gomel")) {
+            sketch.add(city);
+        }
+        sketch.add(null);
+        assertEquals(4, sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("Merged partition sketches should equal a single sketch over all input")
+    void merge_MatchesSingleSketch() {
+        HyperLogLog all = new HyperLogLog(10);
+        HyperLogLog left = new HyperLogLog(10);
+        HyperLogLog right = new HyperLogLog(10);
+        for (int i = 0; i < 30000; i++) {
+            String value = "user" + i + "@example.com";
+            all.add(value);
+            (i % 3 == 0 ? left : right).add(value);
+        }
+
+        assertEquals(all.estimate(), left.merge(right).estimate());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(11)));
+    }
+
+    @Test
+    @DisplayName("Precision should follow the requested relative error")
+    void withRelativeError_ChoosesPrecision() {
+        assertEquals(12, HyperLogLog.withRelativeError(0.02).precision());
+        assertTrue(HyperLogLog.withRelativeError(0.005).standardError() <= 0.005);
+        assertEquals(HyperLogLog.MIN_PRECISION, HyperLogLog.withRelativeError(0.5).precision());
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.withRelativeError(0));
+    }
+
+    @Test
+    @DisplayName("Task approximations should be close to exact answers")
+    void task_ApproximationsMatchExact() {
+        List<Order> orders = TestOrders.random(20000, 5);
+        orders.add(order("O-null", null, OrderStatus.NEW));
+
+        assertEquals(Task.uniqueCities(orders).size(), Task.approximateUniqueCities(orders));
+
+        long customers = orders.stream()
+                .filter(Objects::nonNull)
+                .map(Order::getCustomer)
+                .filter(Objects::nonNull)
+                .map(Customer::getCustomerId)
+                .distinct()
+                .count();
+        long estimate = Task.approximateDistinctCustomers(orders);
+        assertTrue(Math.abs(estimate - customers) <= customers * 0.05, estimate + " vs " + customers);
+        assertEquals(0, Task.approximateDistinctEmails(null));
+    }
+}
@@ -0,0 +1,99 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalOrderMetricsTest {
+    private IncrementalOrderMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new IncrementalOrderMetrics();
+    }
+
+    @Test
+    @DisplayName("Metrics should follow status transitions")
+    void statusChanges_UpdateDeliveredMetrics() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        metrics.orderAdded(order("O1", c, OrderStatus.NEW, item("Book", 2, 10.0, Category.BOOKS)));
+        metrics.orderAdded(order("O2", c, OrderStatus.PROCESSING, item("Lamp", 1, 30.0, Category.HOME)));
+
+        assertEquals(0.0, metrics.totalIncomeForCompletedOrders(), 1e-9);
+        assertFalse(metrics.averageCheckForDeliveredOrders().isPresent());
+
+        metrics.statusChanged("O1", OrderStatus.SHIPPED);
+        metrics.statusChanged("O1", OrderStatus.DELIVERED);
+        metrics.statusChanged("O2", OrderStatus.DELIVERED);
+        assertEquals(50.0, metrics.totalIncomeForCompletedOrders(), 1e-9);
+        assertEquals(25.0, metrics.averageCheckForDeliveredOrders().getAsDouble(), 1e-9);
+
+        metrics.statusChanged("O2", OrderStatus.CANCELLED);
+        assertEquals(20.0, metrics.totalIncomeForCompletedOrders(), 1e-9);
+        assertEquals(OrderStatus.CANCELLED, metrics.statusOf("O2"));
+    }
+
+    @Test
+    @DisplayName("Product ties should resolve to the smallest name, as in Task")
+    void productTies_MatchTask() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        List<Order> orders = new ArrayList<>();
+        orders.add(order("O1", c, OrderStatus.NEW, item("Watch", 2, 10.0, Category.ELECTRONICS)));
+        orders.add(order("O2", c, OrderStatus.NEW, item("Lamp", 1, 30.0, Category.HOME), item("Book", 1, 5.0, Category.BOOKS)));
+        orders.add(order("O3", c, OrderStatus.NEW, item("Lamp", 1, 30.0, Category.HOME), item("Book", 1, 5.0, Category.BOOKS)));
+        for (Order order : orders) {
+            metrics.orderAdded(order);
+        }
+
+        assertEquals(Optional.of("Book"), metrics.mostPopularProductBySales());
+        assertEquals(Task.mostPopularProductBySales(orders), metrics.mostPopularProductBySales());
+        assertEquals(Task.mostPopularProductBySales(orders), OrderReportEngine.compute(orders).getMostPopularProductBySales());
+        assertEquals("Book", ProductRanking.topProductsBySales(orders, 1).get(0).getProductName());
+    }
+
+    @Test
+    @DisplayName("Metrics should match Task after random events")
+    void randomEvents_MatchTask() {
+        List<Order> orders = TestOrders.random(3000, 6);
+        Random random = new Random(6);
+        List<Order> seen = new ArrayList<>();
+
+        for (Order order : orders) {
+            metrics.orderAdded(order);
+            seen.add(order);
+            if (random.nextInt(3) == 0) {
+                Order changed = seen.get(random.nextInt(seen.size()));
+                OrderStatus status = OrderStatus.values()[random.nextInt(OrderStatus.values().length)];
+                changed.setStatus(status);
+                metrics.statusChanged(changed.getOrderId(), status);
+            }
+        }
+
+        assertEquals(List.copyOf(Task.uniqueCities(orders)), List.copyOf(metrics.uniqueCities()));
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), metrics.totalIncomeForCompletedOrders(), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(orders).getAsDouble(),
+                metrics.averageCheckForDeliveredOrders().getAsDouble(), 1e-9);
+        assertEquals(Task.mostPopularProductBySales(orders), metrics.mostPopularProductBySales());
+        assertEquals(Task.customersWithMoreThanNOrders(orders, 5), metrics.customersWithMoreThanNOrders(5));
+        assertEquals(orders.size(), metrics.orderCount());
+    }
+
+    @Test
+    @DisplayName("Invalid events should be rejected")
+    void invalidEvents_Throw() {
+        Order order = order("O1", customer("C1", "Alice", "Minsk"), OrderStatus.NEW);
+        metrics.orderAdded(order);
+
+        assertThrows(IllegalArgumentException.class, () -> metrics.orderAdded(order));
+        assertThrows(IllegalArgumentException.class, () -> metrics.orderAdded(null));
+        assertThrows(IllegalArgumentException.class, () -> metrics.statusChanged("missing", OrderStatus.NEW));
+    }
+}
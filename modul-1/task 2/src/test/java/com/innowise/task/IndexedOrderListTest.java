@@ -0,0 +1,183 @@
+package com.innowise.task;
+
+import com.innowise.task.OrderQuery.Aggregate;
+import com.innowise.task.OrderQuery.Measure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedOrderListTest {
+
+    @Test
+    @DisplayName("Task methods should give the same answers on an indexed list")
+    void task_UsesIndexesWithSameResults() {
+        List<Order> plain = TestOrders.random(5000, 23);
+        IndexedOrderList indexed = new IndexedOrderList(plain);
+
+        assertEquals(plain, indexed);
+        assertEquals(new ArrayList<>(Task.uniqueCities(plain)), new ArrayList<>(Task.uniqueCities(indexed)));
+        assertEquals(Task.totalIncomeForCompletedOrders(plain), Task.totalIncomeForCompletedOrders(indexed), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(plain).orElseThrow(),
+                Task.averageCheckForDeliveredOrders(indexed).orElseThrow(), 1e-9);
+        assertEquals(Task.mostPopularProductBySales(plain), Task.mostPopularProductBySales(indexed));
+        assertEquals(new ArrayList<>(Task.customersWithMoreThanNOrders(plain, 6)),
+                new ArrayList<>(Task.customersWithMoreThanNOrders(indexed, 6)));
+    }
+
+    @Test
+    @DisplayName("City and customer reports should follow list order, not insertion order")
+    void reports_FollowListOrder() {
+        Customer alice = customer("C1", "Alice", "Minsk");
+        Customer bob = customer("C2", "Bob", "Brest");
+        Customer carol = customer("C3", "Carol", "Grodno");
+        Order o1 = order("O1", alice, OrderStatus.NEW);
+        Order o2 = order("O2", bob, OrderStatus.NEW);
+        Order o3 = order("O3", bob, OrderStatus.NEW);
+        IndexedOrderList list = new IndexedOrderList(List.of(o1, o2, o3));
+
+        list.add(0, order("O4", carol, OrderStatus.NEW));
+        list.add(1, order("O5", carol, OrderStatus.NEW));
+        assertEquals(List.of("Grodno", "Minsk", "Brest"), new ArrayList<>(Task.uniqueCities(list)));
+        assertEquals(List.of(carol, bob), new ArrayList<>(Task.customersWithMoreThanNOrders(list, 1)));
+
+        list.remove(o1);
+        list.add(order("O6", alice, OrderStatus.NEW));
+        assertEquals(List.of("Grodno", "Brest", "Minsk"), new ArrayList<>(Task.uniqueCities(list)));
+        list.add(0, order("O7", alice, OrderStatus.NEW));
+        assertEquals(List.of("Minsk", "Grodno", "Brest"), new ArrayList<>(Task.uniqueCities(list)));
+        assertEquals(new ArrayList<>(Task.customersWithMoreThanNOrders(new ArrayList<>(list), 1)),
+                new ArrayList<>(Task.customersWithMoreThanNOrders(list, 1)));
+    }
+
+    @Test
+    @DisplayName("Sort, swap and reverse should move orders and keep indexes consistent")
+    void reordering_KeepsIndexes() {
+        List<Order> plain = TestOrders.random(300, 29);
+        IndexedOrderList indexed = new IndexedOrderList(plain);
+
+        Collections.swap(indexed, 0, 1);
+        Collections.swap(plain, 0, 1);
+        assertEquals(plain, indexed);
+
+        Collections.reverse(indexed);
+        Collections.reverse(plain);
+        assertEquals(plain, indexed);
+
+        Comparator<Order> byId = Comparator.comparing(Order::getOrderId);
+        indexed.sort(byId);
+        plain.sort(byId);
+        assertEquals(plain, indexed);
+
+        Collections.shuffle(indexed, new Random(1));
+        Collections.shuffle(plain, new Random(1));
+        assertEquals(plain, indexed);
+
+        assertEquals(new ArrayList<>(Task.uniqueCities(plain)), new ArrayList<>(Task.uniqueCities(indexed)));
+        assertEquals(new ArrayList<>(Task.customersWithMoreThanNOrders(plain, 2)),
+                new ArrayList<>(Task.customersWithMoreThanNOrders(indexed, 2)));
+        for (OrderStatus status : OrderStatus.values()) {
+            assertEquals(plain.stream().filter(o -> o.getStatus() == status).count(), indexed.byStatus(status).size());
+        }
+        Order first = indexed.get(0);
+        indexed.remove(0);
+        assertFalse(indexed.contains(first));
+        assertThrows(IllegalArgumentException.class, () -> indexed.add(indexed.get(0)));
+    }
+
+    @Test
+    @DisplayName("Index lookups should return only matching orders")
+    void lookups_ReturnMatchingOrders() {
+        List<Order> plain = TestOrders.random(2000, 3);
+        IndexedOrderList indexed = new IndexedOrderList(plain);
+
+        for (OrderStatus status : OrderStatus.values()) {
+            assertEquals(plain.stream().filter(o -> o.getStatus() == status).collect(Collectors.toSet()),
+                    new HashSet<>(indexed.byStatus(status)));
+        }
+        assertEquals(plain.stream()
+                        .filter(o -> o.getItems().stream().anyMatch(i -> i.getCategory() == Category.TOYS))
+                        .collect(Collectors.toSet()),
+                new HashSet<>(indexed.byCategory(Category.TOYS)));
+        assertEquals(plain.stream().filter(o -> o.getCustomer().getCity().equals("City_4")).count(),
+                indexed.byCity("City_4").size());
+
+        List<Order> expected = plain.stream()
+                .filter(o -> o.getCustomer().getCustomerId().equals("C7") && o.getStatus() == OrderStatus.DELIVERED)
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(expected), new HashSet<>(indexed.byCustomerAndStatus("C7", OrderStatus.DELIVERED)));
+        assertTrue(indexed.byCustomer("missing").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> indexed.byStatus(OrderStatus.NEW).clear());
+    }
+
+    @Test
+    @DisplayName("Reports should match a plain list while an order sits in two slots")
+    void duplicateSlots_MatchPlainList() {
+        Customer alice = customer("C1", "Alice", "Minsk");
+        Order delivered = order("O1", alice, OrderStatus.DELIVERED, item("Book", 1, 10.0, Category.BOOKS));
+        Order fresh = order("O2", alice, OrderStatus.NEW, item("Lamp", 1, 5.0, Category.HOME));
+        IndexedOrderList indexed = new IndexedOrderList(List.of(delivered, fresh));
+
+        indexed.set(1, indexed.get(0));
+        List<Order> plain = new ArrayList<>(indexed);
+        assertEquals(20.0, Task.totalIncomeForCompletedOrders(plain), 1e-9);
+        assertEquals(Task.totalIncomeForCompletedOrders(plain), Task.totalIncomeForCompletedOrders(indexed), 1e-9);
+        assertEquals(Task.totalIncomeForCompletedOrdersInCents(plain), Task.totalIncomeForCompletedOrdersInCents(indexed));
+        assertEquals(Task.averageCheckForDeliveredOrders(plain), Task.averageCheckForDeliveredOrders(indexed));
+        assertEquals(1, Task.customersWithMoreThanNOrders(plain, 1).size());
+        assertEquals(Task.customersWithMoreThanNOrders(plain, 1), Task.customersWithMoreThanNOrders(indexed, 1));
+
+        OrderQuery query = OrderQuery.from(indexed).whereStatus(OrderStatus.DELIVERED)
+                .aggregate(Aggregate.count(), Aggregate.sum(Measure.ORDER_TOTAL));
+        assertTrue(query.explain().startsWith("Scan"), query.explain());
+        assertArrayEquals(new double[] {2, 20}, query.execute().row(QueryResult.ALL).orElseThrow().getValues(), 1e-9);
+
+        indexed.set(1, fresh);
+        assertEquals(10.0, Task.totalIncomeForCompletedOrders(indexed), 1e-9);
+        assertTrue(OrderQuery.from(indexed).whereStatus(OrderStatus.DELIVERED).explain().startsWith("IndexScan"));
+        assertTrue(Task.customersWithMoreThanNOrders(indexed, 1).contains(alice));
+    }
+
+    @Test
+    @DisplayName("Mutations should keep indexes consistent")
+    void mutations_KeepIndexesConsistent() {
+        Customer alice = customer("C1", "Alice", "Minsk");
+        Customer bob = customer("C2", "Bob", "Brest");
+        Order o1 = order("O1", alice, OrderStatus.NEW, item("Book", 1, 10.0, Category.BOOKS));
+        Order o2 = order("O2", alice, OrderStatus.DELIVERED, item("Lamp", 1, 30.0, Category.HOME));
+        Order o3 = order("O3", bob, OrderStatus.DELIVERED, item("Sofa", 1, 300.0, Category.HOME));
+        IndexedOrderList list = new IndexedOrderList();
+        list.addAll(List.of(o1, o2, o3));
+
+        list.updateStatus(o1, OrderStatus.DELIVERED);
+        assertEquals(OrderStatus.DELIVERED, o1.getStatus());
+        assertEquals(340.0, Task.totalIncomeForCompletedOrders(list), 1e-9);
+        assertTrue(list.byStatus(OrderStatus.NEW).isEmpty());
+
+        list.remove(o3);
+        assertEquals(Set.of("Minsk"), Task.uniqueCities(list));
+        assertTrue(list.byCategory(Category.HOME).contains(o2));
+        assertFalse(list.contains(o3));
+
+        o2.getItems().get(0).setCategory(Category.TOYS);
+        list.reindex(o2);
+        assertTrue(list.byCategory(Category.HOME).isEmpty());
+        assertEquals(List.of(o2), new ArrayList<>(list.byCategory(Category.TOYS)));
+
+        list.set(0, o3);
+        assertEquals(List.of("Brest", "Minsk"), new ArrayList<>(Task.uniqueCities(list)));
+        assertEquals(Set.of(alice, bob), Task.customersWithMoreThanNOrders(list, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> list.add(o2));
+        assertThrows(IllegalArgumentException.class, () -> list.updateStatus(o1, OrderStatus.NEW));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertTrue(Task.uniqueCities(list).isEmpty());
+        assertFalse(Task.averageCheckForDeliveredOrders(list).isPresent());
+    }
+}
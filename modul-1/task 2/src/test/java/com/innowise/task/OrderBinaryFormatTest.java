@@ -0,0 +1,174 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBinaryFormatTest {
+
+    @TempDir
+    Path dir;
+
+    private static void assertSameOrder(Order expected, Order actual) {
+        assertEquals(expected.getOrderId(), actual.getOrderId());
+        assertEquals(expected.getOrderDate(), actual.getOrderDate());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        if (expected.getCustomer() == null) {
+            assertNull(actual.getCustomer());
+        } else {
+            Customer e = expected.getCustomer();
+            Customer a = actual.getCustomer();
+            assertEquals(Arrays.asList(e.getCustomerId(), e.getName(), e.getEmail(), e.getRegisteredAt(), e.getAge(), e.getCity()),
+                    Arrays.asList(a.getCustomerId(), a.getName(), a.getEmail(), a.getRegisteredAt(), a.getAge(), a.getCity()));
+        }
+        if (expected.getItems() == null) {
+            assertNull(actual.getItems());
+            return;
+        }
+        assertEquals(expected.getItems().size(), actual.getItems().size());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem e = expected.getItems().get(i);
+            OrderItem a = actual.getItems().get(i);
+            if (e == null) {
+                assertNull(a);
+                continue;
+            }
+            assertEquals(Arrays.asList(e.getProductName(), e.getQuantity(), e.getPrice(), e.getCategory()),
+                    Arrays.asList(a.getProductName(), a.getQuantity(), a.getPrice(), a.getCategory()));
+        }
+    }
+
+    private static List<Order> awkwardOrders() {
+        Customer alice = customer("C1", "Alice", "Мінск");
+        alice.setRegisteredAt(BASE_TIME.plusNanos(123456789));
+        Customer anonymous = new Customer();
+        Order full = order("O1", alice, OrderStatus.DELIVERED,
+                item("Book", 2, 10.25, Category.BOOKS), null, item(null, 1, 0.1, null));
+        Order bare = new Order();
+        Order shared = order("O3", alice, null);
+        shared.setOrderDate(null);
+        Order noItems = order("O4", anonymous, OrderStatus.CANCELLED);
+        noItems.setItems(null);
+        return Arrays.asList(full, bare, shared, noItems);
+    }
+
+    @Test
+    @DisplayName("Streaming and mapped readers should round-trip every field")
+    void roundTrip_PreservesFields() throws IOException {
+        List<Order> orders = new ArrayList<>(awkwardOrders());
+        orders.addAll(TestOrders.random(3000, 12));
+        Path file = dir.resolve("orders.bin");
+        OrderBinaryFormat.write(file, orders);
+
+        List<Order> streamed = OrderBinaryFormat.read(file);
+        List<Order> mapped = OrderBinaryFormat.readMapped(file);
+        List<Order> smallWindows = new ArrayList<>();
+        try (MappedOrderReader reader = new MappedOrderReader(file, 64)) {
+            reader.forEach(smallWindows::add);
+        }
+
+        for (List<Order> decoded : List.of(streamed, mapped, smallWindows)) {
+            assertEquals(orders.size(), decoded.size());
+            for (int i = 0; i < orders.size(); i++) {
+                assertSameOrder(orders.get(i), decoded.get(i));
+            }
+            assertSame(decoded.get(0).getCustomer(), decoded.get(2).getCustomer());
+            assertEquals(Task.totalIncomeForCompletedOrders(orders.subList(4, orders.size())),
+                    Task.totalIncomeForCompletedOrders(decoded.subList(4, decoded.size())));
+        }
+    }
+
+    @Test
+    @DisplayName("Dictionary should hold only cities and product names")
+    void dictionary_KeepsFileCompact() throws IOException {
+        List<Order> orders = TestOrders.random(5000, 2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OrderBinaryWriter writer = new OrderBinaryWriter(bytes)) {
+            writer.writeAll(orders);
+            assertEquals(5000, writer.ordersWritten());
+            assertEquals(Task.uniqueCities(orders).size() + 8, writer.dictionarySize());
+        }
+
+        assertTrue(bytes.size() < 5000 * 100, "file size " + bytes.size());
+        try (OrderBinaryReader reader = new OrderBinaryReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            int count = 0;
+            while (reader.next() != null) count++;
+            assertEquals(5000, count);
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Out-of-range ordinals and lengths should be reported as a corrupt file")
+    void corruptRecords_ThrowIOException() throws IOException {
+        Order order = order("O1", null, OrderStatus.NEW);
+        order.setItems(null);
+        Path file = dir.resolve("orders.bin");
+        OrderBinaryFormat.write(file, List.of(order));
+        byte[] content = Files.readAllBytes(file);
+        int idLength = OrderBinaryFormat.HEADER_SIZE + OrderBinaryFormat.RECORD_HEADER_SIZE;
+        int status = idLength + 4 + 2 + 12 + 4;
+        assertEquals(OrderStatus.NEW.ordinal(), content[status]);
+
+        byte[] badStatus = content.clone();
+        badStatus[status] = 99;
+        byte[] badLength = content.clone();
+        badLength[idLength] = 0x7F;
+        for (byte[] bad : List.of(badStatus, badLength)) {
+            Path corrupt = Files.write(dir.resolve("corrupt.bin"), bad);
+            IOException streamed = assertThrows(IOException.class, () -> OrderBinaryFormat.read(corrupt));
+            IOException mapped = assertThrows(IOException.class, () -> OrderBinaryFormat.readMapped(corrupt));
+            assertTrue(streamed.getMessage().startsWith("Corrupt order file"), streamed.getMessage());
+            assertTrue(mapped.getMessage().startsWith("Corrupt order file"), mapped.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Oversized record lengths should be rejected before allocating a buffer")
+    void oversizedRecordLength_ThrowsIOException() throws IOException {
+        Path file = dir.resolve("orders.bin");
+        OrderBinaryFormat.write(file, TestOrders.random(3, 1));
+        byte[] content = Files.readAllBytes(file);
+        int length = OrderBinaryFormat.HEADER_SIZE + 1;
+
+        for (int bogus : new int[] {Integer.MAX_VALUE, OrderBinaryFormat.MAX_RECORD_SIZE + 1}) {
+            ByteBuffer.wrap(content).putInt(length, bogus);
+            IOException e = assertThrows(IOException.class,
+                    () -> new OrderBinaryReader(new ByteArrayInputStream(content)).next());
+            assertTrue(e.getMessage().startsWith("Corrupt record length"), e.getMessage());
+            Path corrupt = Files.write(dir.resolve("corrupt.bin"), content);
+            assertThrows(IOException.class, () -> OrderBinaryFormat.readMapped(corrupt));
+        }
+    }
+
+    @Test
+    @DisplayName("Readers should reject foreign and truncated files")
+    void rejectsBadFiles() throws IOException {
+        Path foreign = Files.write(dir.resolve("foreign.bin"), "hello world".getBytes());
+        assertThrows(IOException.class, () -> OrderBinaryFormat.read(foreign));
+        assertThrows(IOException.class, () -> OrderBinaryFormat.readMapped(foreign));
+        assertThrows(IOException.class, () -> new OrderBinaryReader(new ByteArrayInputStream(new byte[2])));
+
+        Path file = dir.resolve("orders.bin");
+        OrderBinaryFormat.write(file, TestOrders.random(10, 1));
+        byte[] content = Files.readAllBytes(file);
+        Path truncated = Files.write(dir.resolve("truncated.bin"), Arrays.copyOf(content, content.length - 3));
+        assertThrows(IOException.class, () -> OrderBinaryFormat.read(truncated));
+        assertThrows(IOException.class, () -> OrderBinaryFormat.readMapped(truncated));
+
+        Path empty = dir.resolve("empty.bin");
+        OrderBinaryFormat.write(empty, Collections.emptyList());
+        assertTrue(OrderBinaryFormat.readMapped(empty).isEmpty());
+    }
+}
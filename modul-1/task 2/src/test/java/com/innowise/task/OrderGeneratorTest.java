@@ -0,0 +1,134 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    private static String fingerprint(Order order) {
+        return order.getOrderId() + "|" + order.getOrderDate() + "|" + order.getStatus() + "|"
+                + order.getCustomer().getCustomerId() + "|" + order.getItems().stream()
+                .map(i -> i.getProductName() + "x" + i.getQuantity() + "@" + i.getPrice() + ":" + i.getCategory())
+                .collect(Collectors.joining(","));
+    }
+
+    @Test
+    @DisplayName("Same seed should give the same orders sequentially, in parallel and across instances")
+    void reproducible() {
+        OrderGenerator generator = OrderGenerator.builder().seed(7).customerCount(500).partitionSize(100).build();
+        List<String> sequential = generator.generate(1234).stream()
+                .map(OrderGeneratorTest::fingerprint)
+                .collect(Collectors.toList());
+
+        Map<String, String> parallel = new ConcurrentHashMap<>();
+        generator.generateParallel(1234, order -> parallel.put(order.getOrderId(), fingerprint(order)));
+
+        assertEquals(1234, parallel.size());
+        assertEquals(new HashSet<>(sequential), new HashSet<>(parallel.values()));
+        assertEquals(sequential, OrderGenerator.builder().seed(7).customerCount(500).partitionSize(100).build()
+                .generate(1234).stream().map(OrderGeneratorTest::fingerprint).collect(Collectors.toList()));
+        assertNotEquals(sequential, OrderGenerator.builder().seed(8).customerCount(500).partitionSize(100).build()
+                .generate(1234).stream().map(OrderGeneratorTest::fingerprint).collect(Collectors.toList()));
+        assertEquals("ORDER_1234", generator.generate(1234).get(1233).getOrderId());
+    }
+
+    @Test
+    @DisplayName("Zipf skew should favour low ranks and zero skew should be roughly uniform")
+    void distributions() {
+        OrderGenerator skewed = OrderGenerator.builder().productSkew(1.2).customerSkew(1.0).customerCount(1000).build();
+        Map<String, Long> productCounts = new HashMap<>();
+        Map<String, Long> customerCounts = new HashMap<>();
+        skewed.generate(20000, order -> {
+            customerCounts.merge(order.getCustomer().getCustomerId(), 1L, Long::sum);
+            order.getItems().forEach(i -> productCounts.merge(i.getProductName(), 1L, Long::sum));
+        });
+        assertTrue(productCounts.get("iPhone") > 5 * productCounts.getOrDefault("Jeans", 0L));
+        assertTrue(customerCounts.get("CUST_1") > 20 * customerCounts.getOrDefault("CUST_1000", 0L) + 20);
+
+        OrderGenerator uniform = OrderGenerator.builder().productSkew(0).customerSkew(0).build();
+        Map<String, Long> uniformCounts = new HashMap<>();
+        uniform.generate(20000, order -> order.getItems().forEach(i -> uniformCounts.merge(i.getProductName(), 1L, Long::sum)));
+        long min = Collections.min(uniformCounts.values());
+        long max = Collections.max(uniformCounts.values());
+        assertEquals(20, uniformCounts.size());
+        assertTrue(max < min * 1.3, min + ".." + max);
+    }
+
+    @Test
+    @DisplayName("Orders should have distinct products, fixed dates and cent prices")
+    void orderShape() {
+        OrderGenerator generator = OrderGenerator.builder().products("A", "B").maxItemsPerOrder(5).productSkew(3).build();
+        for (Order order : generator.generate(2000)) {
+            Set<String> names = order.getItems().stream().map(OrderItem::getProductName).collect(Collectors.toSet());
+            assertEquals(order.getItems().size(), names.size());
+            assertTrue(order.getItems().size() <= 2);
+            assertFalse(order.getOrderDate().isBefore(TestOrders.BASE_TIME));
+            assertTrue(order.getOrderDate().isBefore(TestOrders.BASE_TIME.plusDays(30)));
+            order.getItems().forEach(i -> assertEquals(i.getPrice(), Math.round(i.getPrice() * 100) / 100.0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> OrderGenerator.builder().products("A", "A"));
+        assertThrows(IllegalArgumentException.class, () -> OrderGenerator.builder().productSkew(-1));
+    }
+
+    @Test
+    @DisplayName("Writing to a file should preserve order and content")
+    void writeTo_File() throws IOException {
+        OrderGenerator generator = OrderGenerator.builder().seed(3).partitionSize(64).build();
+        Path file = dir.resolve("generated.bin");
+        generator.writeTo(file, 1000);
+
+        List<String> expected = generator.generate(1000).stream()
+                .map(OrderGeneratorTest::fingerprint)
+                .collect(Collectors.toList());
+        assertEquals(expected, OrderBinaryFormat.readMapped(file).stream()
+                .map(OrderGeneratorTest::fingerprint)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Writing and streaming orders should fit in a heap smaller than a per-order dictionary")
+    void writeTo_StreamsInSmallHeap() throws IOException, InterruptedException {
+        Path file = dir.resolve("large.bin");
+        Path output = dir.resolve("output.txt");
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx16m", "-XX:ActiveProcessorCount=1", "-cp", System.getProperty("java.class.path"),
+                SmallHeapStream.class.getName(), file.toString(), "200000")
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+
+        String log = process.waitFor() == 0 ? "" : Files.readString(output, StandardCharsets.UTF_8);
+        assertEquals(0, process.exitValue(), log);
+        assertEquals("200000", Files.readString(output, StandardCharsets.UTF_8).trim());
+    }
+
+    static final class SmallHeapStream {
+        public static void main(String[] args) throws IOException {
+            Path file = Paths.get(args[0]);
+            long count = Long.parseLong(args[1]);
+            OrderGenerator.builder().partitionSize(4096).build().writeTo(file, count);
+
+            long read = 0;
+            try (OrderBinaryReader reader = new OrderBinaryReader(Files.newInputStream(file))) {
+                while (reader.next() != null) read++;
+            }
+            System.out.println(read);
+        }
+    }
+}
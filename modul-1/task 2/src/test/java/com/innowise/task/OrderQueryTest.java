@@ -0,0 +1,171 @@
+package com.innowise.task;
+
+import com.innowise.task.OrderQuery.Aggregate;
+import com.innowise.task.OrderQuery.GroupKey;
+import com.innowise.task.OrderQuery.Measure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderQueryTest {
+
+    @Test
+    @DisplayName("Delivered totals should match the Task reports")
+    void matchesTaskReports() {
+        List<Order> orders = TestOrders.random(3000, 41);
+
+        QueryResult result = OrderQuery.from(orders)
+                .whereStatus(OrderStatus.DELIVERED)
+                .aggregate(Aggregate.sum(Measure.ORDER_TOTAL), Aggregate.avg(Measure.ORDER_TOTAL), Aggregate.count())
+                .execute();
+
+        QueryResult.Row row = result.row(QueryResult.ALL).orElseThrow();
+        assertEquals(List.of("SUM(ORDER_TOTAL)", "AVG(ORDER_TOTAL)", "COUNT"), result.getColumns());
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), row.get(0), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(orders).orElseThrow(), row.get(1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Combined filters with grouping should match a hand-written stream")
+    void filtersAndGrouping() {
+        List<Order> orders = TestOrders.random(5000, 42);
+        LocalDateTime from = BASE_TIME.plusDays(5);
+        LocalDateTime to = BASE_TIME.plusDays(20);
+
+        QueryResult result = OrderQuery.from(orders)
+                .whereStatus(OrderStatus.SHIPPED, OrderStatus.DELIVERED)
+                .whereCity("City_1", "City_2", "City_3")
+                .between(from, to)
+                .whereAge(25, 45)
+                .groupBy(GroupKey.CITY)
+                .aggregate(Aggregate.count(), Aggregate.max(Measure.ORDER_TOTAL), Aggregate.min(Measure.CUSTOMER_AGE))
+                .execute();
+
+        Map<String, List<Order>> expected = orders.stream()
+                .filter(o -> o.getStatus() == OrderStatus.SHIPPED || o.getStatus() == OrderStatus.DELIVERED)
+                .filter(o -> Set.of("City_1", "City_2", "City_3").contains(o.getCustomer().getCity()))
+                .filter(o -> !o.getOrderDate().isBefore(from) && o.getOrderDate().isBefore(to))
+                .filter(o -> o.getCustomer().getAge() >= 25 && o.getCustomer().getAge() <= 45)
+                .collect(Collectors.groupingBy(o -> o.getCustomer().getCity(), TreeMap::new, Collectors.toList()));
+
+        assertEquals(new ArrayList<>(expected.keySet()),
+                result.getRows().stream().map(QueryResult.Row::getKey).collect(Collectors.toList()));
+        for (Map.Entry<String, List<Order>> group : expected.entrySet()) {
+            QueryResult.Row row = result.row(group.getKey()).orElseThrow();
+            assertEquals(group.getValue().size(), row.get(0));
+            assertEquals(group.getValue().stream().mapToDouble(Task::orderTotal).max().orElseThrow(), row.get(1), 1e-9);
+            assertEquals(group.getValue().stream().mapToInt(o -> o.getCustomer().getAge()).min().orElseThrow(), row.get(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Item grain should restrict items to the category filter")
+    void itemGrain() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        List<Order> orders = Arrays.asList(
+                order("O1", c, OrderStatus.DELIVERED, item("Book", 2, 10.0, Category.BOOKS), item("Lamp", 1, 30.0, Category.HOME)),
+                order("O2", c, OrderStatus.NEW, item("Book", 1, 12.0, Category.BOOKS), item("Novel", 3, 5.0, Category.BOOKS)),
+                order("O3", c, OrderStatus.NEW, item("Sofa", 1, 300.0, Category.HOME)));
+
+        QueryResult byProduct = OrderQuery.from(orders)
+                .whereCategory(Category.BOOKS)
+                .groupBy(GroupKey.PRODUCT)
+                .aggregate(Aggregate.sum(Measure.QUANTITY), Aggregate.sum(Measure.ITEM_REVENUE), Aggregate.avg(Measure.PRICE))
+                .execute();
+
+        assertEquals(List.of("Book", "Novel"),
+                byProduct.getRows().stream().map(QueryResult.Row::getKey).collect(Collectors.toList()));
+        assertArrayEquals(new double[] {3, 32, 11}, byProduct.row("Book").orElseThrow().getValues(), 1e-9);
+
+        QueryResult byStatus = OrderQuery.from(orders)
+                .whereCategory(Category.BOOKS)
+                .groupBy(GroupKey.STATUS)
+                .aggregate(Aggregate.sum(Measure.ITEM_REVENUE))
+                .execute();
+        assertEquals(20.0, byStatus.row("DELIVERED").orElseThrow().get(0), 1e-9);
+        assertEquals(27.0, byStatus.row("NEW").orElseThrow().get(0), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> OrderQuery.from(orders)
+                .groupBy(GroupKey.CATEGORY).aggregate(Aggregate.sum(Measure.ORDER_TOTAL)).execute());
+        assertTrue(OrderQuery.from(null).execute().getRows().isEmpty());
+        assertTrue(OrderQuery.from(orders).whereCity("Nowhere").execute().getRows().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Orders without a customer should be left out of customer age aggregates")
+    void customerAge_SkipsOrdersWithoutCustomer() {
+        Customer young = customer("C1", "Alice", "Minsk");
+        young.setAge(20);
+        Customer old = customer("C2", "Bob", "Brest");
+        old.setAge(60);
+        List<Order> orders = Arrays.asList(
+                order("O1", young, OrderStatus.NEW, item("Book", 1, 10.0, Category.BOOKS)),
+                order("O2", old, OrderStatus.NEW, item("Lamp", 1, 30.0, Category.HOME)),
+                order("O3", null, OrderStatus.NEW, item("Sofa", 1, 300.0, Category.HOME)),
+                order("O4", null, OrderStatus.DELIVERED, item("Desk", 1, 90.0, Category.HOME)));
+
+        QueryResult result = OrderQuery.from(orders)
+                .groupBy(GroupKey.STATUS)
+                .aggregate(Aggregate.count(), Aggregate.avg(Measure.CUSTOMER_AGE), Aggregate.min(Measure.CUSTOMER_AGE),
+                        Aggregate.sum(Measure.CUSTOMER_AGE), Aggregate.sum(Measure.ORDER_TOTAL))
+                .execute();
+
+        assertArrayEquals(new double[] {3, 40, 20, 80, 340}, result.row("NEW").orElseThrow().getValues(), 1e-9);
+        double[] delivered = result.row("DELIVERED").orElseThrow().getValues();
+        assertEquals(1, delivered[0]);
+        assertTrue(Double.isNaN(delivered[1]));
+        assertTrue(Double.isNaN(delivered[2]));
+        assertEquals(0, delivered[3]);
+        assertEquals(90, delivered[4], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Planner should drive indexed lists from the smallest posting and order filters by selectivity")
+    void planner_ChoosesAccessPath() {
+        List<Order> plain = TestOrders.random(4000, 43);
+        IndexedOrderList indexed = new IndexedOrderList(plain);
+
+        OrderQuery scan = OrderQuery.from(plain)
+                .between(BASE_TIME, BASE_TIME.plusDays(3))
+                .whereAge(30, 31)
+                .whereStatus(OrderStatus.DELIVERED);
+        assertEquals("Scan -> Filter(age IN [30, 31]) -> Filter(status IN [DELIVERED]) "
+                + "-> Filter(orderDate IN [" + BASE_TIME + ", " + BASE_TIME.plusDays(3) + ")) "
+                + "-> Aggregate(orders, groupBy=NONE, [COUNT])", scan.explain());
+
+        OrderQuery indexedQuery = OrderQuery.from(indexed)
+                .whereStatus(OrderStatus.DELIVERED, OrderStatus.NEW)
+                .whereCity("City_7")
+                .whereCategory(Category.TOYS, Category.BOOKS)
+                .groupBy(GroupKey.DAY)
+                .aggregate(Aggregate.count(), Aggregate.sum(Measure.ORDER_TOTAL));
+        assertTrue(indexedQuery.explain().startsWith("IndexScan(city IN [City_7])"), indexedQuery.explain());
+
+        QueryResult viaIndex = indexedQuery.execute();
+        QueryResult viaScan = OrderQuery.from(plain)
+                .whereStatus(OrderStatus.DELIVERED, OrderStatus.NEW)
+                .whereCity("City_7")
+                .whereCategory(Category.TOYS, Category.BOOKS)
+                .groupBy(GroupKey.DAY)
+                .aggregate(Aggregate.count(), Aggregate.sum(Measure.ORDER_TOTAL))
+                .execute();
+        assertEquals(viaScan.getRows().size(), viaIndex.getRows().size());
+        for (int i = 0; i < viaScan.getRows().size(); i++) {
+            assertEquals(viaScan.getRows().get(i).getKey(), viaIndex.getRows().get(i).getKey());
+            assertArrayEquals(viaScan.getRows().get(i).getValues(), viaIndex.getRows().get(i).getValues(), 1e-6);
+        }
+
+        assertTrue(OrderQuery.from(indexed).whereCategory(Category.TOYS, Category.HOME).explain()
+                .startsWith("IndexScan(category IN [HOME, TOYS])"));
+        assertEquals(indexed.stream().filter(o -> o.getItems().stream()
+                        .anyMatch(i -> i.getCategory() == Category.TOYS || i.getCategory() == Category.HOME)).count(),
+                OrderQuery.from(indexed).whereCategory(Category.TOYS, Category.HOME).execute()
+                        .row(QueryResult.ALL).orElseThrow().get(0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderReportEngineTest {
+
+    @Test
+    @DisplayName("Report should match every Task method")
+    void compute_MatchesTask() {
+        List<Order> orders = TestOrders.random(2000, 1);
+
+        OrderReport report = OrderReportEngine.compute(orders);
+
+        assertEquals(Task.uniqueCities(orders), report.getUniqueCities());
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), report.getTotalIncomeForCompletedOrders(), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(orders).getAsDouble(),
+                report.getAverageCheckForDeliveredOrders().getAsDouble(), 1e-9);
+        assertEquals(Task.mostPopularProductBySales(orders), report.getMostPopularProductBySales());
+        assertEquals(Task.customersWithMoreThanNOrders(orders, 5), report.customersWithMoreThanNOrders(5));
+        assertEquals(Task.customersWithMoreThanNOrders(orders, 12), report.customersWithMoreThanNOrders(12));
+    }
+
+    @Test
+    @DisplayName("Report should skip null customers, items and orders")
+    void compute_SkipsNulls() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        Order delivered = order("O1", c, OrderStatus.DELIVERED, item("Book", 2, 10.0, Category.BOOKS), null);
+        Order anonymous = order("O2", null, OrderStatus.NEW, item("Pen", 5, 1.0, Category.BOOKS));
+        Order noItems = order("O3", c, OrderStatus.DELIVERED);
+        noItems.setItems(null);
+
+        OrderReport report = OrderReportEngine.compute(Arrays.asList(delivered, anonymous, noItems, null));
+
+        assertEquals(Collections.singleton("Minsk"), report.getUniqueCities());
+        assertEquals(20.0, report.getTotalIncomeForCompletedOrders(), 1e-9);
+        assertEquals(10.0, report.getAverageCheckForDeliveredOrders().getAsDouble(), 1e-9);
+        assertEquals("Pen", report.getMostPopularProductBySales().orElseThrow());
+        assertEquals(2L, report.getOrderCountsByCustomer().get("C1"));
+    }
+
+    @Test
+    @DisplayName("Report over null list should be empty")
+    void compute_NullList_EmptyReport() {
+        OrderReport report = OrderReportEngine.compute(null);
+
+        assertTrue(report.getUniqueCities().isEmpty());
+        assertEquals(0.0, report.getTotalIncomeForCompletedOrders(), 1e-9);
+        assertFalse(report.getAverageCheckForDeliveredOrders().isPresent());
+        assertFalse(report.getMostPopularProductBySales().isPresent());
+        assertTrue(report.customersWithMoreThanNOrders(0).isEmpty());
+    }
+}
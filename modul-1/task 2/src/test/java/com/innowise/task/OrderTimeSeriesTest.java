@@ -0,0 +1,126 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTimeSeriesTest {
+
+    private static List<Order> between(List<Order> orders, LocalDateTime from, LocalDateTime to) {
+        return orders.stream()
+                .filter(o -> !o.getOrderDate().isBefore(from) && o.getOrderDate().isBefore(to))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Range query should match a rescan of the same orders")
+    void range_MatchesRescan() {
+        List<Order> orders = TestOrders.random(5000, 17);
+        OrderTimeSeries series = OrderTimeSeries.of(orders, Duration.ofHours(1));
+        LocalDateTime from = BASE_TIME.plusDays(3);
+        LocalDateTime to = BASE_TIME.plusDays(10);
+
+        OrderTimeSeries.WindowStats stats = series.range(from, to);
+        List<Order> expected = between(orders, from, to);
+
+        assertEquals(expected.size(), stats.getOrderCount());
+        assertEquals(Task.totalIncomeForCompletedOrders(expected), stats.getDeliveredRevenue(), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(expected).orElseThrow(),
+                stats.averageCheckForDeliveredOrders().orElseThrow(), 1e-6);
+        assertEquals(Task.mostPopularProductBySales(expected), stats.mostPopularProduct());
+        assertEquals(from, stats.getStart());
+        assertEquals(to, stats.getEnd());
+    }
+
+    @Test
+    @DisplayName("Status changes should move delivered amounts in the order's bucket")
+    void statusChanged_MovesDeliveredAmounts() {
+        List<Order> orders = TestOrders.random(2000, 19);
+        OrderTimeSeries series = OrderTimeSeries.of(orders, Duration.ofHours(1));
+        LocalDateTime end = BASE_TIME.plusDays(31);
+
+        for (int i = 0; i < orders.size(); i += 7) {
+            Order order = orders.get(i);
+            OrderStatus from = order.getStatus();
+            OrderStatus to = from == OrderStatus.DELIVERED ? OrderStatus.CANCELLED : OrderStatus.DELIVERED;
+            order.setStatus(to);
+            series.statusChanged(order, from, to);
+        }
+
+        OrderTimeSeries.WindowStats stats = series.range(BASE_TIME, end);
+        assertEquals(orders.stream().filter(o -> o.getStatus() == OrderStatus.DELIVERED).count(), stats.getDeliveredCount());
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), stats.getDeliveredRevenue(), 1e-6);
+
+        Order outside = order("X", customer("C1", "Alice", "Minsk"), OrderStatus.DELIVERED, item("Book", 1, 10.0, Category.BOOKS));
+        outside.setOrderDate(BASE_TIME.minusYears(1));
+        assertThrows(IllegalArgumentException.class, () -> series.statusChanged(outside, OrderStatus.NEW, OrderStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("Tumbling windows should partition the range")
+    void tumbling_PartitionsRange() {
+        List<Order> orders = TestOrders.random(3000, 4);
+        OrderTimeSeries series = OrderTimeSeries.of(orders, Duration.ofHours(1));
+
+        List<OrderTimeSeries.WindowStats> days = series.tumbling(BASE_TIME, BASE_TIME.plusDays(30), Duration.ofDays(1));
+
+        assertEquals(30, days.size());
+        assertEquals(orders.size(), days.stream().mapToLong(OrderTimeSeries.WindowStats::getOrderCount).sum());
+        OrderTimeSeries.WindowStats fifth = days.get(4);
+        assertEquals(between(orders, BASE_TIME.plusDays(4), BASE_TIME.plusDays(5)).size(), fifth.getOrderCount());
+        assertEquals(BASE_TIME.plusDays(4), fifth.getStart());
+    }
+
+    @Test
+    @DisplayName("Sliding windows should overlap by the window minus the step")
+    void sliding_Overlaps() {
+        List<Order> orders = TestOrders.random(3000, 8);
+        OrderTimeSeries series = OrderTimeSeries.of(orders, Duration.ofHours(6));
+
+        List<OrderTimeSeries.WindowStats> weeks = series.sliding(BASE_TIME, BASE_TIME.plusDays(14),
+                Duration.ofDays(7), Duration.ofDays(1));
+
+        assertEquals(14, weeks.size());
+        for (OrderTimeSeries.WindowStats week : weeks) {
+            List<Order> expected = between(orders, week.getStart(), week.getEnd());
+            assertEquals(expected.size(), week.getOrderCount());
+            Map<String, Long> quantities = new HashMap<>();
+            expected.forEach(o -> o.getItems().forEach(i -> quantities.merge(i.getProductName(), (long) i.getQuantity(), Long::sum)));
+            assertEquals(quantities, week.getProductQuantities());
+        }
+        assertEquals(BASE_TIME.plusDays(14), weeks.get(13).getEnd());
+    }
+
+    @Test
+    @DisplayName("Edge cases: unaligned ranges, missing dates and invalid windows")
+    void edgeCases() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        Order dated = order("O1", c, OrderStatus.DELIVERED, item("Book", 2, 10.0, Category.BOOKS));
+        dated.setOrderDate(BASE_TIME.plusMinutes(90));
+        Order undated = order("O2", c, OrderStatus.DELIVERED, item("Pen", 1, 1.0, Category.BOOKS));
+        undated.setOrderDate(null);
+
+        OrderTimeSeries series = OrderTimeSeries.of(Arrays.asList(dated, undated, null), Duration.ofHours(1));
+
+        assertEquals(2, series.skippedOrders());
+        assertEquals(1, series.bucketCount());
+        assertEquals(Optional.of(BASE_TIME.plusHours(1)), series.firstOrderBucket());
+        OrderTimeSeries.WindowStats widened = series.range(BASE_TIME.plusMinutes(70), BASE_TIME.plusMinutes(80));
+        assertEquals(BASE_TIME.plusHours(1), widened.getStart());
+        assertEquals(BASE_TIME.plusHours(2), widened.getEnd());
+        assertEquals(20.0, widened.getDeliveredRevenue(), 1e-9);
+        assertTrue(series.range(BASE_TIME, BASE_TIME.plusHours(1)).averageCheckForDeliveredOrders().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new OrderTimeSeries(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> series.tumbling(BASE_TIME, BASE_TIME.plusDays(1), Duration.ofMinutes(90)));
+        assertThrows(IllegalArgumentException.class, () -> series.range(BASE_TIME.plusDays(1), BASE_TIME));
+    }
+}
@@ -0,0 +1,77 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class ParallelTaskBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int orders;
+
+    @Param({"0"})
+    int parallelism;
+
+    List<Order> data;
+    ForkJoinPool pool;
+    ParallelTask parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = TestOrders.random(orders, 42);
+        pool = parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        parallel = new ParallelTask(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != ForkJoinPool.commonPool()) pool.shutdown();
+    }
+
+    @Benchmark
+    public OrderReport sequentialReport() {
+        return OrderReportEngine.compute(data);
+    }
+
+    @Benchmark
+    public OrderReport parallelReport() {
+        return parallel.report(data);
+    }
+
+    @Benchmark
+    public double sequentialIncome() {
+        return Task.totalIncomeForCompletedOrders(data);
+    }
+
+    @Benchmark
+    public double parallelIncome() {
+        return parallel.totalIncomeForCompletedOrders(data);
+    }
+
+    @Benchmark
+    public Object sequentialCustomers() {
+        return Task.customersWithMoreThanNOrders(data, 5);
+    }
+
+    @Benchmark
+    public Object parallelCustomers() {
+        return parallel.customersWithMoreThanNOrders(data, 5);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParallelTaskBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
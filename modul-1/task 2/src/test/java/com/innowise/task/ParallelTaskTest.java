@@ -0,0 +1,102 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTaskTest {
+    private static ForkJoinPool pool;
+    private static ParallelTask parallel;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = new ParallelTask(pool);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Parallel results should match sequential Task")
+    void parallel_MatchesTask() {
+        List<Order> orders = TestOrders.random(20000, 2);
+
+        assertEquals(Task.uniqueCities(orders), parallel.uniqueCities(orders));
+        assertEquals(List.copyOf(Task.uniqueCities(orders)), List.copyOf(parallel.uniqueCities(orders)));
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), parallel.totalIncomeForCompletedOrders(orders), 1e-6);
+        assertEquals(Task.averageCheckForDeliveredOrders(orders).getAsDouble(),
+                parallel.averageCheckForDeliveredOrders(orders).getAsDouble(), 1e-9);
+        assertEquals(Task.mostPopularProductBySales(orders), parallel.mostPopularProductBySales(orders));
+        assertEquals(Task.customersWithMoreThanNOrders(orders, 5), parallel.customersWithMoreThanNOrders(orders, 5));
+    }
+
+    @Test
+    @DisplayName("Delivered sums should not depend on pool parallelism")
+    void deliveredSums_AreReproducible() {
+        List<Order> orders = TestOrders.random(30000, 3);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            double expected = new ParallelTask(single).totalIncomeForCompletedOrders(orders);
+            assertEquals(expected, parallel.totalIncomeForCompletedOrders(orders));
+            assertEquals(expected, new ParallelTask().totalIncomeForCompletedOrders(orders));
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel report should match sequential report")
+    void report_MatchesSequentialEngine() {
+        List<Order> orders = TestOrders.random(10000, 4);
+
+        OrderReport expected = OrderReportEngine.compute(orders);
+        OrderReport actual = parallel.report(orders);
+
+        assertEquals(expected.getUniqueCities(), actual.getUniqueCities());
+        assertEquals(expected.getTotalIncomeForCompletedOrders(), actual.getTotalIncomeForCompletedOrders(), 1e-6);
+        assertEquals(expected.getOrderCountsByCustomer(), actual.getOrderCountsByCustomer());
+        assertEquals(expected.getMostPopularProductBySales(), actual.getMostPopularProductBySales());
+    }
+
+    @Test
+    @DisplayName("Customer instances should be picked in list order, also for linked lists")
+    void customers_FirstInstanceInListOrder() {
+        List<Order> orders = new LinkedList<>(TestOrders.random(3 * ParallelTask.SUM_CHUNK_SIZE, 5));
+        Customer first = TestOrders.customer("DUP", "First", "Minsk");
+        Customer second = TestOrders.customer("DUP", "Second", "Brest");
+        orders.add(0, TestOrders.order("D0", first, OrderStatus.NEW));
+        for (int i = 1; i <= 10; i++) {
+            orders.add(TestOrders.order("D" + i, second, OrderStatus.DELIVERED));
+        }
+
+        for (int run = 0; run < 5; run++) {
+            Set<Customer> customers = parallel.customersWithMoreThanNOrders(orders, 5);
+            assertEquals(Task.customersWithMoreThanNOrders(orders, 5), customers);
+            assertSame(first, customers.stream().filter(c -> c.getCustomerId().equals("DUP")).findFirst().orElseThrow());
+        }
+        assertEquals(Task.totalIncomeForCompletedOrders(orders), parallel.totalIncomeForCompletedOrders(orders), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Null and empty lists should give empty results")
+    void nullAndEmpty_GiveEmptyResults() {
+        assertTrue(parallel.uniqueCities(null).isEmpty());
+        assertEquals(0.0, parallel.totalIncomeForCompletedOrders(Collections.emptyList()), 1e-9);
+        assertFalse(parallel.averageCheckForDeliveredOrders(null).isPresent());
+        assertFalse(parallel.mostPopularProductBySales(null).isPresent());
+        assertTrue(parallel.customersWithMoreThanNOrders(null, 1).isEmpty());
+        assertTrue(parallel.report(null).getUniqueCities().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.innowise.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.innowise.task.TestOrders.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductRankingTest {
+
+    @Test
+    @DisplayName("Exact top-k should be sorted by quantity")
+    void topProducts_SortedByQuantity() {
+        Customer c = customer("C1", "Alice", "Minsk");
+        List<Order> orders = Arrays.asList(
+                order("O1", c, OrderStatus.NEW, item("Book", 5, 10.0, Category.BOOKS), item("Pen", 1, 1.0, Category.BOOKS)),
+                order("O2", c, OrderStatus.NEW, item("Lamp", 3, 30.0, Category.HOME), item("Pen", 3, 1.0, Category.BOOKS)),
+                order("O3", c, OrderStatus.NEW, item("Sofa", 1, 300.0, Category.HOME)));
+
+        List<ProductSales> top = ProductRanking.topProductsBySales(orders, 3);
+
+        assertEquals(List.of(
+                new ProductSales("Book", 5, 0),
+                new ProductSales("Pen", 4, 0),
+                new ProductSales("Lamp", 3, 0)), top);
+        assertEquals(Task.mostPopularProductBySales(orders).orElseThrow(), top.get(0).getProductName());
+    }
+
+    @Test
+    @DisplayName("Exact top-k should handle small inputs")
+    void topProducts_EdgeCases() {
+        assertTrue(ProductRanking.topProductsBySales(null, 5).isEmpty());
+        assertTrue(ProductRanking.topProductsBySales(TestOrders.random(10, 1), 0).isEmpty());
+        assertEquals(8, ProductRanking.topProductsBySales(TestOrders.random(500, 1), 100).size());
+        assertThrows(IllegalArgumentException.class, () -> ProductRanking.topProductsBySales(null, -1));
+    }
+
+    @Test
+    @DisplayName("Space-Saving should find heavy hitters within error bound")
+    void spaceSaving_FindsHeavyHitters() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(20);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(9);
+
+        for (int i = 0; i < 50000; i++) {
+            String product = random.nextInt(4) == 0 ? "P" + random.nextInt(5) : "Tail" + random.nextInt(5000);
+            long weight = 1 + random.nextInt(3);
+            counter.offer(product, weight);
+            exact.merge(product, weight, Long::sum);
+        }
+
+        List<ProductSales> top = counter.top(5);
+        Set<String> names = new HashSet<>();
+        for (ProductSales sales : top) {
+            names.add(sales.getProductName());
+            long truth = exact.get(sales.getProductName());
+            assertTrue(sales.getQuantity() >= truth);
+            assertTrue(sales.getGuaranteedQuantity() <= truth);
+            assertTrue(sales.getMaxError() <= counter.errorBound());
+        }
+        assertEquals(Set.of("P0", "P1", "P2", "P3", "P4"), names);
+    }
+
+    @Test
+    @DisplayName("Approximate ranking should be exact when capacity covers all products")
+    void approximateTop_LargeCapacity_IsExact() {
+        List<Order> orders = TestOrders.random(2000, 10);
+
+        List<ProductSales> approximate = ProductRanking.approximateTopProductsBySales(orders, 3, 100);
+        List<ProductSales> exact = ProductRanking.topProductsBySales(orders, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(exact.get(i).getQuantity(), approximate.get(i).getQuantity());
+            assertEquals(0, approximate.get(i).getMaxError());
+        }
+    }
+}
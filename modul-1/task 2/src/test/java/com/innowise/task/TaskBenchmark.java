@@ -0,0 +1,90 @@
+package com.innowise.task;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every {@link Task} report on skewed generated datasets. The default sizes fit
+ * the default heap. The 50M case needs roughly 16 GB of live heap for the order graph; run it
+ * explicitly with {@code TaskBenchmark -p orders=50000000 -jvmArgsAppend -Xmx24g}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBenchmark {
+
+    @Param({"10000", "1000000"})
+    int orders;
+
+    @Param({"5"})
+    long minOrders;
+
+    List<Order> data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = OrderGenerator.builder()
+                .seed(42)
+                .customerCount(Math.max(1, Math.min(orders / 10, 1_000_000)))
+                .productSkew(1.0)
+                .customerSkew(1.0)
+                .build()
+                .generate(orders);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Set<String> uniqueCities() {
+        return Task.uniqueCities(data);
+    }
+
+    @Benchmark
+    public double totalIncomeForCompletedOrders() {
+        return Task.totalIncomeForCompletedOrders(data);
+    }
+
+    @Benchmark
+    public long totalIncomeForCompletedOrdersInCents() {
+        return Task.totalIncomeForCompletedOrdersInCents(data);
+    }
+
+    @Benchmark
+    public Optional<String> mostPopularProductBySales() {
+        return Task.mostPopularProductBySales(data);
+    }
+
+    @Benchmark
+    public OptionalDouble averageCheckForDeliveredOrders() {
+        return Task.averageCheckForDeliveredOrders(data);
+    }
+
+    @Benchmark
+    public OptionalLong averageCheckForDeliveredOrdersInCents() {
+        return Task.averageCheckForDeliveredOrdersInCents(data);
+    }
+
+    @Benchmark
+    public Set<Customer> customersWithMoreThanNOrders() {
+        return Task.customersWithMoreThanNOrders(data, minOrders);
+    }
+
+    @Benchmark
+    public double orderTotal(Cursor cursor) {
+        Order order = data.get(cursor.next);
+        cursor.next = cursor.next + 1 == data.size() ? 0 : cursor.next + 1;
+        return Task.orderTotal(order);
+    }
+}
@@ -304,4 +304,48 @@ class TaskTest {
         Order o = createOrder("T1", createCustomer("C1", "Name", "City"), OrderStatus.DELIVERED, i1, i2);
         assertEquals(0.0, Task.orderTotal(o), 1e-9);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Cents: totals are exact where doubles drift")
+    void testTotalIncomeInCents_Exact() {
+        Customer c = createCustomer("C1", "Alice", "Minsk");
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            orders.add(createOrder("O" + i, c, OrderStatus.DELIVERED, createItem("Pen", 3, 0.1, Category.BOOKS)));
+        }
+        orders.add(createOrder("X", c, OrderStatus.CANCELLED, createItem("Sofa", 1, 999.99, Category.HOME)));
+
+        assertEquals(3000000L, Task.totalIncomeForCompletedOrdersInCents(orders));
+        assertEquals(30L, Task.averageCheckForDeliveredOrdersInCents(orders).getAsLong());
+        assertEquals(Task.totalIncomeForCompletedOrdersInCents(orders),
+                Task.totalIncomeForCompletedOrdersInCents(new IndexedOrderList(orders)));
+    }
+
+    @Test
+    @DisplayName("Cents: average rounds half away from zero")
+    void testAverageCheckInCents_Rounding() {
+        Customer c = createCustomer("C1", "Alice", "Minsk");
+        Order o1 = createOrder("O1", c, OrderStatus.DELIVERED, createItem("A", 1, 0.01, Category.HOME));
+        Order o2 = createOrder("O2", c, OrderStatus.DELIVERED, createItem("B", 1, 0.02, Category.HOME));
+        Order o3 = createOrder("O3", c, OrderStatus.DELIVERED, createItem("C", 1, 0.02, Category.HOME));
+
+        assertEquals(2L, Task.averageCheckForDeliveredOrdersInCents(Arrays.asList(o1, o2)).getAsLong());
+        assertEquals(2L, Task.averageCheckForDeliveredOrdersInCents(Arrays.asList(o1, o2, o3)).getAsLong());
+        assertFalse(Task.averageCheckForDeliveredOrdersInCents(null).isPresent());
+        assertEquals(0L, Task.totalIncomeForCompletedOrdersInCents(Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("Cents: item price stays in sync with its cents view")
+    void testOrderTotalInCents() {
+        OrderItem item = createItem("X", 2, 12.345, Category.HOME);
+        assertEquals(1235L, item.getPriceCents());
+        item.setPriceCents(1999);
+        assertEquals(19.99, item.getPrice(), 1e-12);
+
+        Order o = createOrder("T1", createCustomer("C1", "Name", "City"), OrderStatus.DELIVERED,
+                item, null, createItem("Y", 1, 5.0, Category.BEAUTY));
+        assertEquals(4498L, Task.orderTotalInCents(o));
+        assertEquals(0L, Task.orderTotalInCents(null));
+    }
+}
@@ -0,0 +1,73 @@
+package com.innowise.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+final class TestOrders {
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private TestOrders() { }
+
+    static OrderItem item(String name, int qty, double price, Category cat) {
+        OrderItem item = new OrderItem();
+        item.setProductName(name);
+        item.setQuantity(qty);
+        item.setPrice(price);
+        item.setCategory(cat);
+        return item;
+    }
+
+    static Customer customer(String id, String name, String city) {
+        Customer customer = new Customer();
+        customer.setCustomerId(id);
+        customer.setName(name);
+        customer.setCity(city);
+        customer.setEmail(name + "@example.com");
+        customer.setRegisteredAt(BASE_TIME.minusDays(10));
+        customer.setAge(30);
+        return customer;
+    }
+
+    static Order order(String id, Customer customer, OrderStatus status, OrderItem... items) {
+        Order order = new Order();
+        order.setOrderId(id);
+        order.setCustomer(customer);
+        order.setOrderDate(BASE_TIME);
+        order.setStatus(status);
+        order.setItems(new ArrayList<>(Arrays.asList(items)));
+        return order;
+    }
+
+    static List<Order> random(int count, long seed) {
+        Random random = new Random(seed);
+        String[] products = {"iPhone", "Sofa", "Novel", "Jeans", "Lego Set", "Perfume", "Laptop", "Watch"};
+        Category[] categories = Category.values();
+        OrderStatus[] statuses = OrderStatus.values();
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, count / 5); i++) {
+            Customer customer = customer("C" + i, "Customer" + i, "City_" + random.nextInt(12));
+            customer.setAge(18 + random.nextInt(50));
+            customers.add(customer);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int itemCount = 1 + random.nextInt(3);
+            OrderItem[] items = new OrderItem[itemCount];
+            for (int j = 0; j < itemCount; j++) {
+                items[j] = item(products[random.nextInt(products.length)], 1 + random.nextInt(3),
+                        Math.round((10 + random.nextDouble() * 490) * 100) / 100.0,
+                        categories[random.nextInt(categories.length)]);
+            }
+            Order order = order("O" + i, customers.get(random.nextInt(customers.size())),
+                    statuses[random.nextInt(statuses.length)], items);
+            order.setOrderDate(BASE_TIME.plusMinutes(random.nextInt(60 * 24 * 30)));
+            orders.add(order);
+        }
+        return orders;
+    }
+}